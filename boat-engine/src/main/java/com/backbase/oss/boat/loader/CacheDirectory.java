@@ -0,0 +1,70 @@
+package com.backbase.oss.boat.loader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounds the size of a directory of cache entries, removing the least recently used entries first. The modification
+ * time of an entry marks its last use.
+ */
+@Slf4j
+public class CacheDirectory {
+
+    private CacheDirectory() {
+        throw new AssertionError("Private constructor");
+    }
+
+    /**
+     * Marks an entry as used now.
+     *
+     * @param entry the cache entry
+     * @throws IOException when the modification time cannot be set
+     */
+    public static void touch(Path entry) throws IOException {
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Removes the least recently used entries until the entries of the directory fit in a maximum size.
+     *
+     * @param directory the cache directory
+     * @param extension the extension of the entries, other files are left alone
+     * @param maxSize   the maximum size in bytes of all entries
+     * @throws IOException when the directory cannot be listed or an entry cannot be removed
+     */
+    public static void evict(Path directory, String extension, long maxSize) throws IOException {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(f -> f.getFileName().toString().endsWith(extension))
+                .sorted(Comparator.comparing(CacheDirectory::lastModified))
+                .collect(Collectors.toList());
+        }
+        long size = 0;
+        for (Path entry : entries) {
+            size += Files.size(entry);
+        }
+        for (Path entry : entries) {
+            if (size <= maxSize) {
+                break;
+            }
+            size -= Files.size(entry);
+            Files.deleteIfExists(entry);
+            log.debug("Evicted cache entry: {}", entry);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.backbase.oss.boat.loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches parsed OpenAPI specs by content, so the same spec is parsed once even when it is loaded by several plugin
+ * executions in one build.
+ *
+ * <p>Entries are keyed by the hash of the spec and all local files it references, together with the parse options.
+ * Parsed specs are kept as compact JSON, and every hit deserializes its own model from it, so callers can modify the
+ * model freely. The least recently used entries are removed when they take more than the maximum size.</p>
+ *
+ * <p>When created with a directory, the compact JSON is also stored there, so later builds skip parsing the YAML of
+ * unchanged specs. The directory is bounded by the same maximum size.</p>
+ */
+@Slf4j
+public class OpenAPICache {
+
+    private static final String EXTENSION = ".json";
+    private static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+    // Access ordered, guarded by itself
+    private final Map<Key, byte[]> specs = new LinkedHashMap<>(16, 0.75f, true);
+    private long specsSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Path directory;
+    private final long maxSize;
+
+    /**
+     * Creates a cache that only keeps parsed specs in memory, up to 256 megabytes.
+     */
+    public OpenAPICache() {
+        this(null, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache that also stores parsed specs in a directory.
+     *
+     * @param directory the cache directory, created when missing; {@code null} to keep specs in memory only
+     * @param maxSize   maximum size in bytes of the specs kept in memory and of the cache directory
+     */
+    public OpenAPICache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Loads a spec file like {@link OpenAPILoader#load(File, boolean, boolean)}, parsing it only when the spec, its
+     * references or the options changed.
+     *
+     * <p>Fully resolved specs are not cached: copying them would add the default values of inlined parameters.</p>
+     *
+     * @param file         the spec file
+     * @param resolveFully whether to resolve all references
+     * @param flatten      whether to flatten inline schemas
+     * @return the parsed spec, owned by the caller
+     * @throws OpenAPILoaderException when the spec cannot be read or parsed
+     */
+    public OpenAPI load(File file, boolean resolveFully, boolean flatten) throws OpenAPILoaderException {
+        if (resolveFully || !file.exists()) {
+            return OpenAPILoader.load(file, resolveFully, flatten);
+        }
+        String hash;
+        try {
+            hash = OpenAPIFiles.sha256(file.toPath());
+        } catch (IOException e) {
+            throw new OpenAPILoaderException("Could not read open api from file :" + file.getAbsolutePath(), e);
+        }
+        Key key = new Key(hash, true, flatten);
+        OpenAPI openAPI = cached(key);
+        if (openAPI == null) {
+            openAPI = store(key, OpenAPILoader.load(file, resolveFully, flatten));
+        }
+        return openAPI;
+    }
+
+    /**
+     * Parses spec contents like {@link OpenAPILoader#parse(String)}, only once for the same contents.
+     *
+     * @param openApi the spec contents
+     * @return the parsed spec, owned by the caller
+     * @throws OpenAPILoaderException when the spec cannot be parsed
+     */
+    public OpenAPI parse(String openApi) throws OpenAPILoaderException {
+        Key key = new Key(Hashing.sha256().hashString(openApi, StandardCharsets.UTF_8).toString(), false, false);
+        OpenAPI openAPI = cached(key);
+        if (openAPI == null) {
+            openAPI = store(key, OpenAPILoader.parse(openApi));
+        }
+        return openAPI;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (specs) {
+            return specs.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (specs) {
+            specs.clear();
+            specsSize = 0;
+        }
+    }
+
+    /**
+     * Returns a new model of a spec that is kept in memory or stored in the cache directory.
+     */
+    private OpenAPI cached(Key key) {
+        byte[] json;
+        synchronized (specs) {
+            json = specs.get(key);
+        }
+        if (json != null) {
+            try {
+                OpenAPI openAPI = deserialize(Json.mapper().readTree(json));
+                hits.incrementAndGet();
+                log.debug("Reusing parsed OpenAPI for: {}", key);
+                return openAPI;
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable parsed OpenAPI for: {}", key, e);
+            }
+        }
+        return readStored(key);
+    }
+
+    /**
+     * Keeps the compact JSON of a parsed spec, while the caller keeps the parsed model itself.
+     */
+    private OpenAPI store(Key key, OpenAPI openAPI) {
+        misses.incrementAndGet();
+        log.debug("Parsed OpenAPI for: {}", key);
+        byte[] json;
+        try {
+            json = mapper(openAPI).writeValueAsBytes(openAPI);
+        } catch (IOException e) {
+            log.warn("Cannot cache parsed OpenAPI for: {}", key, e);
+            return openAPI;
+        }
+        // Keep the first one when another thread parsed the same spec concurrently
+        if (keep(key, json)) {
+            writeStored(key, json);
+        }
+        return openAPI;
+    }
+
+    /**
+     * Keeps the compact JSON of a spec in memory and removes the least recently used specs beyond the maximum size.
+     *
+     * @return whether the spec was not kept yet
+     */
+    private boolean keep(Key key, byte[] json) {
+        synchronized (specs) {
+            if (specs.putIfAbsent(key, json) != null) {
+                return false;
+            }
+            specsSize += json.length;
+            for (Iterator<byte[]> entries = specs.values().iterator(); specsSize > maxSize && entries.hasNext(); ) {
+                specsSize -= entries.next().length;
+                entries.remove();
+            }
+            return true;
+        }
+    }
+
+    private OpenAPI readStored(Key key) {
+        if (directory == null) {
+            return null;
+        }
+        Path stored = directory.resolve(key.fileName());
+        if (!Files.isRegularFile(stored)) {
+            return null;
+        }
+        try {
+            byte[] json = Files.readAllBytes(stored);
+            OpenAPI openAPI = deserialize(Json.mapper().readTree(json));
+            if (openAPI == null) {
+                return null;
+            }
+            CacheDirectory.touch(stored);
+            diskHits.incrementAndGet();
+            log.debug("Read parsed OpenAPI for: {} from: {}", key, stored);
+            keep(key, json);
+            return openAPI;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable cache entry: {}", stored, e);
+            return null;
+        }
+    }
+
+    private void writeStored(Key key, byte[] json) {
+        if (directory == null) {
+            return;
+        }
+        Path stored = directory.resolve(key.fileName());
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "openapi", ".tmp");
+            Files.write(temp, json);
+            try {
+                Files.move(temp, stored, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, stored, StandardCopyOption.REPLACE_EXISTING);
+            }
+            CacheDirectory.evict(directory, EXTENSION, maxSize);
+        } catch (IOException e) {
+            log.warn("Cannot store parsed OpenAPI in: {}", directory, e);
+        }
+    }
+
+    /**
+     * Copies a model through its JSON representation with the deserializer of the parser, so the copy is the same as
+     * parsing the spec again and can be modified without affecting the original.
+     *
+     * @param openAPI the model to copy
+     * @return an independent copy of the model
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        return deserialize(mapper(openAPI).valueToTree(openAPI));
+    }
+
+    private static OpenAPI deserialize(JsonNode node) {
+        return new OpenAPIDeserializer().deserialize(node).getOpenAPI();
+    }
+
+    private static ObjectMapper mapper(OpenAPI openAPI) {
+        return openAPI.getSpecVersion() == SpecVersion.V31 ? Json31.mapper() : Json.mapper();
+    }
+
+    @Value
+    private static class Key {
+        // Stored entries of another parser version may differ
+        private static final String PARSER_VERSION = String.valueOf(
+            OpenAPIV3Parser.class.getPackage().getImplementationVersion());
+
+        String hash;
+        boolean file;
+        boolean flatten;
+
+        String fileName() {
+            return Hashing.sha256().hashString(PARSER_VERSION + ":" + this, StandardCharsets.UTF_8) + EXTENSION;
+        }
+    }
+}
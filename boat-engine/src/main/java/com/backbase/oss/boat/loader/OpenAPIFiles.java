@@ -0,0 +1,110 @@
+package com.backbase.oss.boat.loader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Finds the local files an OpenAPI spec is made of: the spec itself and every file it references with a relative
+ * {@code $ref}, transitively.
+ */
+@Slf4j
+public class OpenAPIFiles {
+
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+
+    private OpenAPIFiles() {
+        throw new AssertionError("Private constructor");
+    }
+
+    /**
+     * Collects the spec and all local files it references.
+     *
+     * @param spec the root spec file
+     * @return absolute, normalized paths of the spec and its references, sorted
+     */
+    public static Set<Path> collect(Path spec) {
+        Set<Path> files = new TreeSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.push(spec.toAbsolutePath().normalize());
+
+        while (!pending.isEmpty()) {
+            Path file = pending.pop();
+            if (!files.add(file) || !Files.isRegularFile(file)) {
+                continue;
+            }
+            for (String ref : readRefs(file)) {
+                Path referenced = resolveRef(file, ref);
+                if (referenced != null && !files.contains(referenced)) {
+                    pending.push(referenced);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Calculates a SHA-256 hash over the spec and all local files it references. The hash changes when any of these
+     * files is changed, added, moved or removed.
+     *
+     * @param spec the root spec file
+     * @return hex encoded hash
+     * @throws IOException when a file cannot be read
+     */
+    public static String sha256(Path spec) throws IOException {
+        Path root = spec.toAbsolutePath().normalize().getParent();
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (Path file : collect(spec)) {
+            hasher.putString(root.relativize(file).toString().replace('\\', '/'), StandardCharsets.UTF_8);
+            if (Files.isRegularFile(file)) {
+                hasher.putBytes(Files.readAllBytes(file));
+            } else {
+                hasher.putString("<missing>", StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static Set<String> readRefs(Path file) {
+        Set<String> refs = new TreeSet<>();
+        try (JsonParser parser = YAML_FACTORY.createParser(file.toFile())) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "$ref".equals(parser.currentName())
+                    && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    refs.add(parser.getText());
+                }
+            }
+        } catch (IOException e) {
+            // Not YAML or JSON, e.g. a plain text example. It is hashed, but cannot hold references.
+            log.debug("Cannot read references from: {}", file, e);
+        }
+        return refs;
+    }
+
+    private static Path resolveRef(Path file, String ref) {
+        String location = StringUtils.substringBefore(ref, "#");
+        if (location.isEmpty() || location.contains("://")) {
+            return null;
+        }
+        try {
+            return file.getParent().resolve(location).normalize();
+        } catch (InvalidPathException e) {
+            log.debug("Ignoring reference: {} in: {}", ref, file);
+            return null;
+        }
+    }
+}
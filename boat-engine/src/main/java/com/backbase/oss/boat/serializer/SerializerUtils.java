@@ -1,7 +1,13 @@
 package com.backbase.oss.boat.serializer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
@@ -9,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 @UtilityClass
 public class SerializerUtils {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     public static String toYamlString(OpenAPI openAPI) {
         if (openAPI == null) {
             return null;
@@ -16,4 +24,31 @@ public class SerializerUtils {
         return Yaml.pretty(openAPI);
     }
 
+    /**
+     * Writes the spec as YAML to the stream, without rendering it into a String first. The stream is flushed, but
+     * left open.
+     *
+     * @param openAPI the spec to write
+     * @param out     the stream to write the UTF-8 encoded YAML to
+     * @throws IOException when the stream cannot be written
+     */
+    public static void writeYaml(OpenAPI openAPI, OutputStream out) throws IOException {
+        Yaml.pretty()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValue(out, openAPI);
+    }
+
+    /**
+     * Writes the spec as YAML to a file, replacing its contents when it already exists.
+     *
+     * @param openAPI the spec to write
+     * @param path    the file to write
+     * @throws IOException when the file cannot be written
+     */
+    public static void writeYaml(OpenAPI openAPI, Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)) {
+            writeYaml(openAPI, out);
+        }
+    }
+
 }
@@ -1,6 +1,9 @@
 package com.backbase.oss.boat.transformers;
 
 import com.backbase.oss.boat.serializer.SerializerUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -13,14 +16,18 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
@@ -64,130 +71,174 @@ public class CaseFormatTransformer implements Transformer {
     @SuppressWarnings("SimplifyStreamApiCallChains")
     public String transform(OpenAPI openAPI, CaseFormat caseFormatFrom, CaseFormat caseFormatTo, final
     Map<String, String> overrides) {
+        Renamer renamer = new Renamer(caseFormatFrom, caseFormatTo, overrides);
 
         openAPI.getPaths().forEach((s, pathItem) -> pathItem.readOperations()
             .stream().filter(operation -> operation.getParameters() != null)
             .forEach(operation -> {
                 List<Parameter> filtered = operation.getParameters().stream()
-                    .map(parameter -> transformParameter(caseFormatFrom, caseFormatTo, overrides, parameter))
+                    .map(parameter -> transformParameter(renamer, parameter))
                     .collect(Collectors.toList());
 
                 operation.setParameters(filtered);
 
                 RequestBody requestBody = operation.getRequestBody();
                 if (requestBody != null && requestBody.getContent() != null) {
-                    transformRequestBody(caseFormatFrom, caseFormatTo, overrides, requestBody);
+                    transformRequestBody(renamer, requestBody);
                 }
 
                 operation.getResponses().forEach((s1, apiResponse) -> {
                     if (apiResponse.getContent() != null) {
-                        transformResponse(caseFormatFrom, caseFormatTo, overrides, apiResponse);
+                        transformResponse(renamer, apiResponse);
                     }
                 });
             }));
 
         openAPI.getComponents().getSchemas().forEach(
-            (s, schema) -> transform(schema, caseFormatFrom, caseFormatTo, overrides)
+            (s, schema) -> transform(schema, renamer)
         );
 
         return SerializerUtils.toYamlString(openAPI);
     }
 
-    private void transformResponse(CaseFormat caseFormatFrom, CaseFormat caseFormatTo, Map<String, String> overrides,
-        ApiResponse apiResponse) {
+    private void transformResponse(Renamer renamer, ApiResponse apiResponse) {
         Collection<MediaType> values = new ArrayList<>(apiResponse.getContent().values());
         for (MediaType value : values) {
 
             if (value.getSchema() != null) {
-                transform(value.getSchema(), caseFormatFrom, caseFormatTo, overrides);
+                transform(value.getSchema(), renamer);
                 if (value.getExample() instanceof String) {
-                    value.setExample(
-                        snakeExample(value.getExample().toString(), caseFormatFrom, caseFormatTo,
-                            overrides));
+                    value.setExample(snakeExample(value.getExample().toString(), renamer));
                 }
             }
         }
     }
 
-    private void transformRequestBody(CaseFormat caseFormatFrom, CaseFormat caseFormatTo, Map<String, String> overrides,
-        RequestBody requestBody) {
+    private void transformRequestBody(Renamer renamer, RequestBody requestBody) {
         Collection<MediaType> values = new ArrayList<>(requestBody.getContent().values());
         for (MediaType value : values) {
-            transform(value.getSchema(), caseFormatFrom, caseFormatTo, overrides);
+            transform(value.getSchema(), renamer);
 
             if (value.getExample() instanceof String) {
-                value.setExample(
-                    snakeExample(value.getExample().toString(), caseFormatFrom, caseFormatTo, overrides));
+                value.setExample(snakeExample(value.getExample().toString(), renamer));
             }
         }
     }
 
-    private Parameter transformParameter(CaseFormat caseFormatFrom, CaseFormat caseFormatTo,
-        Map<String, String> overrides, Parameter parameter) {
+    private Parameter transformParameter(Renamer renamer, Parameter parameter) {
         if (parameter instanceof QueryParameter) {
-            parameter.setName(transform(parameter.getName(), caseFormatFrom, caseFormatTo, overrides));
+            parameter.setName(renamer.rename(parameter.getName()));
         }
         return parameter;
     }
 
-    private void transform(Schema schema, CaseFormat from, CaseFormat to, Map<String, String> overrides) {
+    private void transform(Schema schema, Renamer renamer) {
         if (schema.getProperties() != null) {
             log.debug("Processing schema: {}", schema.getName());
             Map<String, Schema> properties = new LinkedHashMap<>();
             schema.getProperties().forEach((propertyNameObject, propertySchemaObject) -> {
                 String propertyName = (String) propertyNameObject;
                 Schema propertySchema = (Schema) propertySchemaObject;
-                String newName = transform(propertyName, from, to, overrides);
+                String newName = renamer.rename(propertyName);
                 log.debug("Renaming property: {} to {}", propertyName, newName);
                 properties.put(newName, propertySchema);
-                transform(propertySchema, from, to, overrides);
+                transform(propertySchema, renamer);
             });
             schema.setProperties(properties);
         }
 
         if (schema.getExample() instanceof String) {
-            String fixedExample = snakeExample(schema.getExample().toString(), from, to, overrides);
+            String fixedExample = snakeExample(schema.getExample().toString(), renamer);
             schema.setExample(fixedExample);
         }
     }
 
     String transform(String name, CaseFormat from, CaseFormat to, Map<String, String> overrides) {
-        String result = from.to(to, name);
-        for (Map.Entry<String, String> entry : overrides.entrySet()) {
-            String fromKeyword = entry.getKey();
-            String toKeyword = entry.getValue();
-            result = result.replaceAll(fromKeyword, toKeyword);
-        }
-        return result;
+        return new Renamer(from, to, overrides).rename(name);
     }
 
-    private ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private String snakeExample(String example, CaseFormat from, CaseFormat to, Map<String, String> overrides) {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(example);
-            transform(jsonNode, from, to, overrides);
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonNode);
+    /**
+     * Renames the keys of a JSON example while copying it token by token, without building a tree of the example.
+     */
+    private String snakeExample(String example, Renamer renamer) {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(example)) {
+            StringWriter writer = new StringWriter(example.length());
+            boolean copied;
+            try (JsonGenerator generator = OBJECT_MAPPER.writerWithDefaultPrettyPrinter().createGenerator(writer)) {
+                copied = copyRenamingKeys(parser, generator, renamer);
+            }
+            // Keys that are repeated after renaming are merged like the tree of the example would merge them
+            return copied ? writer.toString() : snakeExampleTree(example, renamer);
         } catch (IOException e) {
             log.debug("not valid json. nothing to rename");
         }
         return example;
     }
 
-    private void transform(JsonNode json, CaseFormat from, CaseFormat to, Map<String, String> overrides) {
+    private static boolean copyRenamingKeys(JsonParser parser, JsonGenerator generator, Renamer renamer)
+        throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        Deque<Set<String>> names = new ArrayDeque<>();
+        int depth = 0;
+        do {
+            switch (token) {
+                case START_OBJECT:
+                    names.push(new HashSet<>());
+                    depth++;
+                    generator.writeStartObject();
+                    break;
+                case END_OBJECT:
+                    names.pop();
+                    depth--;
+                    generator.writeEndObject();
+                    break;
+                case START_ARRAY:
+                    depth++;
+                    generator.writeStartArray();
+                    break;
+                case END_ARRAY:
+                    depth--;
+                    generator.writeEndArray();
+                    break;
+                case FIELD_NAME:
+                    String name = renamer.rename(parser.currentName());
+                    if (!names.peek().add(name)) {
+                        return false;
+                    }
+                    generator.writeFieldName(name);
+                    break;
+                default:
+                    generator.copyCurrentEvent(parser);
+            }
+        } while (depth > 0 && (token = parser.nextToken()) != null);
+        return true;
+    }
+
+    private String snakeExampleTree(String example, Renamer renamer) throws IOException {
+        JsonNode jsonNode = OBJECT_MAPPER.readTree(example);
+        transform(jsonNode, renamer);
+        return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(jsonNode);
+    }
+
+    private void transform(JsonNode json, Renamer renamer) {
         if (json.isObject()) {
             ObjectNode objectNode = (ObjectNode) json;
             Set<String> toBeRemoved = new HashSet<>();
             Map<String, JsonNode> renamedFields = new LinkedHashMap<>();
 
             objectNode.fields().forEachRemaining(field -> {
-                String newName = transform(field.getKey(), from, to, overrides);
+                String newName = renamer.rename(field.getKey());
 
                 if (field.getValue().isObject()) {
-                    transform(field.getValue(), from, to, overrides);
+                    transform(field.getValue(), renamer);
                 }
                 if (field.getValue().isArray()) {
-                    field.getValue().forEach(jsonNode -> transform(jsonNode, from, to, overrides));
+                    field.getValue().forEach(jsonNode -> transform(jsonNode, renamer));
                 }
                 renamedFields.put(newName, field.getValue());
                 toBeRemoved.add(field.getKey());
@@ -197,9 +248,42 @@ public class CaseFormatTransformer implements Transformer {
         }
 
         if (json.isArray()) {
-            json.forEach(jsonNode -> transform(jsonNode, from, to, overrides));
+            json.forEach(jsonNode -> transform(jsonNode, renamer));
         }
     }
 
+    /**
+     * Renames names from one case format to another and applies the overrides, compiled once per transformation.
+     * Each distinct name is renamed only once.
+     */
+    private static final class Renamer {
 
+        private final CaseFormat from;
+        private final CaseFormat to;
+        private final List<Pattern> patterns = new ArrayList<>();
+        private final List<String> replacements = new ArrayList<>();
+        private final Map<String, String> renamed = new HashMap<>();
+
+        Renamer(CaseFormat from, CaseFormat to, Map<String, String> overrides) {
+            this.from = from;
+            this.to = to;
+            // Overrides are applied one after another, in the order of the map
+            overrides.forEach((fromKeyword, toKeyword) -> {
+                patterns.add(Pattern.compile(fromKeyword));
+                replacements.add(toKeyword);
+            });
+        }
+
+        String rename(String name) {
+            return renamed.computeIfAbsent(name, this::apply);
+        }
+
+        private String apply(String name) {
+            String result = from.to(to, name);
+            for (int i = 0; i < patterns.size(); i++) {
+                result = patterns.get(i).matcher(result).replaceAll(replacements.get(i));
+            }
+            return result;
+        }
+    }
 }
@@ -4,9 +4,12 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -15,41 +18,88 @@ import org.apache.commons.lang3.StringUtils;
 @SuppressWarnings("java:S3740")
 public class Decomposer implements Transformer {
 
+    private int merges;
+
     public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
 
-        List<Schema> composedSchemas = openAPI.getComponents().getSchemas().values().stream()
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        List<Schema> composedSchemas = schemas.values().stream()
             .filter(ComposedSchema.class::isInstance)
             .collect(Collectors.toList());
 
-        composedSchemas.forEach(composedSchema -> mergeComposedSchema(openAPI, composedSchema));
+        Flattening flattening = new Flattening(schemas);
+        schemas.forEach((name, schema) -> {
+            if (schema instanceof ComposedSchema) {
+                flattening.flatten(name, (ComposedSchema) schema);
+            }
+        });
 
         for (Schema composedSchema : composedSchemas) {
             ((ComposedSchema) composedSchema).setAllOf(null);
         }
+        merges = flattening.merges;
 
         return openAPI;
     }
 
-    private void mergeComposedSchema(OpenAPI openAPI, Schema composedSchema) {
-        ((ComposedSchema) composedSchema).getAllOf().stream()
-            .map(schemaReference -> {
-                String key = StringUtils.substringAfterLast(schemaReference.get$ref(), "/");
-                Schema schema = openAPI.getComponents().getSchemas().get(key);
-                if (schema == null) {
-                    log.info("huh??");
+    /**
+     * The number of {@code allOf} parents merged into composed schemas by the last transformation.
+     */
+    int getMerges() {
+        return merges;
+    }
+
+    /**
+     * Merges the {@code allOf} parents of composed schemas, parents first, so each composed schema is merged once and
+     * its merged properties are reused by all schemas composed from it.
+     */
+    private static final class Flattening {
+
+        private final Map<String, Schema> schemas;
+        private final Set<String> merged = new HashSet<>();
+        private final Set<String> chain = new LinkedHashSet<>();
+        private int merges;
+
+        Flattening(Map<String, Schema> schemas) {
+            this.schemas = schemas;
+        }
+
+        void flatten(String name, ComposedSchema composedSchema) {
+            if (merged.contains(name)) {
+                return;
+            }
+            if (!chain.add(name)) {
+                throw new TransformerException("Circular allOf: " + String.join(" -> ", chain) + " -> " + name);
+            }
+            if (composedSchema.getAllOf() != null) {
+                for (Schema schemaReference : composedSchema.getAllOf()) {
+                    if (schemaReference.get$ref() == null) {
+                        log.debug("Merging properties from inline Schema in: {}", name);
+                        mergeSchemas(composedSchema, schemaReference);
+                        merges++;
+                        continue;
+                    }
+                    String key = StringUtils.substringAfterLast(schemaReference.get$ref(), "/");
+                    Schema schema = schemas.get(key);
+                    if (schema == null) {
+                        throw new TransformerException(
+                            String.format("No component schema found by name %s", schemaReference.get$ref()));
+                    }
+                    log.debug("Merging properties from referenced Schema: {}", schema.getName());
+                    if (schema instanceof ComposedSchema) {
+                        flatten(key, (ComposedSchema) schema);
+                    }
+
+                    mergeSchemas(composedSchema, schema);
+                    merges++;
                 }
-                return schema;
-            })
-            .forEach(schema -> {
-                log.debug("Merging properties from referenced Schema: {}", schema.getName());
-                if (schema instanceof ComposedSchema)
-                    mergeComposedSchema(openAPI, schema);
-
-                mergeSchemas(composedSchema, schema);
-            });
+            }
+            chain.remove(name);
+            merged.add(name);
+        }
     }
 
-    private void mergeSchemas(Schema composedSchema, Schema schema) {
+    private static void mergeSchemas(Schema composedSchema, Schema schema) {
         if (composedSchema.getProperties() == null) {
             composedSchema.setProperties(new LinkedHashMap<>());
         }
@@ -62,7 +112,9 @@ public class Decomposer implements Transformer {
             required = required.stream().distinct().collect(Collectors.toList());
             composedSchema.required(required);
         }
-        composedSchema.getProperties().putAll(schema.getProperties());
+        if (schema.getProperties() != null) {
+            composedSchema.getProperties().putAll(schema.getProperties());
+        }
     }
 
 
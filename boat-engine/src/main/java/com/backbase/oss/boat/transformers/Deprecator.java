@@ -1,6 +1,6 @@
 package com.backbase.oss.boat.transformers;
 
-import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
@@ -13,58 +13,55 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @SuppressWarnings({"java:S3740", "rawtypes"})
-public class Deprecator implements Transformer {
+public class Deprecator implements VisitingTransformer {
 
     @SuppressWarnings("java:S5411")
     @Override
-    public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
-
-        openAPI.getPaths().forEach((s, pathItem) -> {
-
-            if (isGetDeprecated(pathItem)) {
-                pathItem.setGet(null);
-            }
-            if (pathItem.getDelete() != null && pathItem.getDelete().getDeprecated() != null && pathItem.getDelete().getDeprecated()) {
-                pathItem.setDelete(null);
-            }
-            if (pathItem.getPost() != null && pathItem.getPost().getDeprecated() != null && pathItem.getPost().getDeprecated()) {
-                pathItem.setPost(null);
-            }
-            if (pathItem.getPut() != null && pathItem.getPut().getDeprecated() != null && pathItem.getPut().getDeprecated()) {
-                pathItem.setPut(null);
-            }
-            if (pathItem.getPatch() != null && pathItem.getPatch().getDeprecated() != null && pathItem.getPatch().getDeprecated()) {
-                pathItem.setPatch(null);
-            }
-            transformOperations(pathItem);
-        });
-
-        openAPI.getComponents().getSchemas().values().forEach(Deprecator::removeDeprecatedProperties);
-
-        return openAPI;
+    public void visitPathItem(String path, PathItem pathItem) {
+        if (isGetDeprecated(pathItem)) {
+            pathItem.setGet(null);
+        }
+        if (pathItem.getDelete() != null && pathItem.getDelete().getDeprecated() != null && pathItem.getDelete().getDeprecated()) {
+            pathItem.setDelete(null);
+        }
+        if (pathItem.getPost() != null && pathItem.getPost().getDeprecated() != null && pathItem.getPost().getDeprecated()) {
+            pathItem.setPost(null);
+        }
+        if (pathItem.getPut() != null && pathItem.getPut().getDeprecated() != null && pathItem.getPut().getDeprecated()) {
+            pathItem.setPut(null);
+        }
+        if (pathItem.getPatch() != null && pathItem.getPatch().getDeprecated() != null && pathItem.getPatch().getDeprecated()) {
+            pathItem.setPatch(null);
+        }
     }
 
-    private void transformOperations(PathItem pathItem) {
-        pathItem.readOperations().forEach(operation -> {
-            if (operation.getParameters() != null) {
-                operation.setParameters(operation.getParameters().stream()
-                    .filter(parameter -> !Boolean.TRUE.equals(parameter.getDeprecated()))
-                    .collect(Collectors.toList()));
+    @Override
+    public void visitOperation(String path, Operation operation) {
+        if (operation.getParameters() != null) {
+            operation.setParameters(operation.getParameters().stream()
+                .filter(parameter -> !Boolean.TRUE.equals(parameter.getDeprecated()))
+                .collect(Collectors.toList()));
 
-            }
-            RequestBody requestBody = operation.getRequestBody();
-            if (requestBody != null && requestBody.getContent() != null) {
-                Content content = requestBody.getContent();
-                removeDeprecatedContent(content);
-            }
+        }
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.getContent() != null) {
+            Content content = requestBody.getContent();
+            removeDeprecatedContent(content);
+        }
 
+        if (operation.getResponses() != null) {
             operation.getResponses().forEach((s1, apiResponse) -> {
                 if (apiResponse.getContent() != null) {
                     Content content = apiResponse.getContent();
                     removeDeprecatedContent(content);
                 }
             });
-        });
+        }
+    }
+
+    @Override
+    public void visitSchema(String name, Schema schema) {
+        removeDeprecatedProperties(schema);
     }
 
     private boolean isGetDeprecated(PathItem pathItem) {
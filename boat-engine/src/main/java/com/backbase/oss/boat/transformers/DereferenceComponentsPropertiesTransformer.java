@@ -4,9 +4,13 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -24,7 +28,10 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
 
     private static final String COMPONENTS_SCHEMAS_PATH = "#/components/schemas/";
 
-    private final Map<String, Schema> resolvedShemas = new HashMap<>();
+    // Schemas that have been or are being dereferenced, so shared and recursive schemas are walked once
+    private final Set<Schema> dereferenced = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Internal references resolved so far, to the schema at the end of their chain of references
+    private final Map<String, Schema> resolvedReferences = new HashMap<>();
 
     @Override
     public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
@@ -32,6 +39,11 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
             log.debug("Nothing to dereference.");
             return openAPI;
         }
+        // The dereferenced schemas belong to one spec, so each spec gets a fresh instance
+        return new DereferenceComponentsPropertiesTransformer().dereference(openAPI);
+    }
+
+    private OpenAPI dereference(OpenAPI openAPI) {
         // Find all the components referenced from paths.
         openAPI.getComponents().getSchemas().forEach((name, schema) -> deferenceSchema(schema, openAPI, name));
 
@@ -42,7 +54,7 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
 
 
         log.debug("Dereference Schema: {}", crumb);
-        if (!resolvedShemas.containsKey(crumb)) {
+        if (dereferenced.add(schema)) {
             if (schema instanceof ComposedSchema) {
                 deferenceAllOf((ComposedSchema) schema, openAPI, crumb);
             }
@@ -52,7 +64,6 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
             if (schema.getProperties() != null) {
                 dereferenceProperties(schema, openAPI, crumb);
             }
-            resolvedShemas.put(crumb, schema);
         } else {
             log.debug("Already dereferenced: {}", crumb);
         }
@@ -63,13 +74,12 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
 
         for (Entry<String, Schema> entry : ((Map<String, Schema>) schema.getProperties()).entrySet()) {
             Schema propertySchema = entry.getValue();
-            if (propertySchema.get$ref() != null && !resolvedShemas.containsKey(propertySchema.get$ref())) {
+            if (propertySchema.get$ref() != null) {
                 log.debug(crumb + " : Replacing property {} with schema {}", entry.getKey(),
                     propertySchema.get$ref());
                 Schema referencedSchema = getSchemaByInternalReference(propertySchema.get$ref(), openAPI);
                 replacements.put(entry.getKey(), referencedSchema);
                 propertySchema = referencedSchema;
-                resolvedShemas.put(propertySchema.get$ref(), referencedSchema);
             }
             deferenceSchema(propertySchema, openAPI, crumb + "/" + entry.getKey());
         }
@@ -120,8 +130,21 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
         }
     }
 
-    @SuppressWarnings("java:S127")
     private Schema getSchemaByInternalReference(String internalReference, OpenAPI openAPI) {
+        Schema schema = resolvedReferences.get(internalReference);
+        return schema != null ? schema : resolveInternalReference(internalReference, openAPI, new LinkedHashSet<>());
+    }
+
+    @SuppressWarnings("java:S127")
+    private Schema resolveInternalReference(String internalReference, OpenAPI openAPI, Set<String> chain) {
+        Schema resolved = resolvedReferences.get(internalReference);
+        if (resolved != null) {
+            return resolved;
+        }
+        if (!chain.add(internalReference)) {
+            throw new TransformerException(String.format("Circular reference: %s -> %s",
+                String.join(" -> ", chain), internalReference));
+        }
         if (!internalReference.startsWith(COMPONENTS_SCHEMAS_PATH)) {
             throw new IllegalArgumentException(String.format("Not an internal ref %s", internalReference));
         }
@@ -144,8 +167,9 @@ public class DereferenceComponentsPropertiesTransformer implements Transformer {
 
         if (schema.get$ref() != null) {
             // sometimes refs go wild
-            return getSchemaByInternalReference(schema.get$ref(), openAPI);
+            schema = resolveInternalReference(schema.get$ref(), openAPI, chain);
         }
+        resolvedReferences.put(internalReference, schema);
         return schema;
     }
 
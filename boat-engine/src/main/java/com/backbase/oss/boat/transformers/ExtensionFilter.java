@@ -1,17 +1,20 @@
 package com.backbase.oss.boat.transformers;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ContainerNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
 
-import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import lombok.Getter;
 import lombok.NonNull;
@@ -21,6 +24,7 @@ import lombok.SneakyThrows;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.StreamSupport.stream;
 
@@ -29,6 +33,9 @@ import static java.util.stream.StreamSupport.stream;
 @Setter
 public class ExtensionFilter implements Transformer {
 
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+    private static final Map<Class<?>, List<Method>> GETTERS = new ConcurrentHashMap<>();
+
     private List<String> remove = emptyList();
 
     @Override
@@ -48,16 +55,55 @@ public class ExtensionFilter implements Transformer {
         return extensions.isEmpty() ? openAPI : transform(openAPI, extensions);
     }
 
-    @SneakyThrows
     private OpenAPI transform(OpenAPI source, Collection<String> remove) {
-        final ObjectMapper mapper = Yaml.mapper();
-        final JsonNode tree = mapper.valueToTree(source);
+        removeExtensions(source, remove, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        return source;
+    }
 
-        if (tree instanceof ContainerNode) {
-            removeExtensions((ContainerNode) tree, remove);
+    /**
+     * Removes the extensions in place from the model, the maps in it and JSON example values. Like the JSON
+     * representation of the model, any map key that matches is removed, not only those of the extensions.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeExtensions(Object value, Collection<String> remove, Set<Object> visited) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+            || value instanceof Enum || !visited.add(value)) {
+            return;
+        }
+        if (value instanceof ContainerNode) {
+            removeExtensions((ContainerNode) value, remove);
+            return;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            if (!Collections.disjoint(map.keySet(), remove)) {
+                map.keySet().removeAll(remove);
+            }
+            map.values().forEach(child -> removeExtensions(child, remove, visited));
+        } else if (value instanceof Collection) {
+            ((Collection<Object>) value).forEach(child -> removeExtensions(child, remove, visited));
         }
+        for (Method getter : GETTERS.computeIfAbsent(value.getClass(), ExtensionFilter::modelGetters)) {
+            removeExtensions(invoke(getter, value), remove, visited);
+        }
+    }
 
-        return mapper.treeToValue(tree, OpenAPI.class);
+    /**
+     * The getters of the OpenAPI model classes, such as {@code getExtensions()}, {@code getSchemas()} or
+     * {@code getPaths()}.
+     */
+    private static List<Method> modelGetters(Class<?> type) {
+        return Arrays.stream(type.getMethods())
+            .filter(m -> m.getDeclaringClass().getName().startsWith(MODELS_PACKAGE))
+            .filter(m -> m.getParameterCount() == 0 && !m.getReturnType().isPrimitive())
+            .filter(m -> m.getName().startsWith("get") && m.getName().length() > 3)
+            .collect(toList());
+    }
+
+    @SneakyThrows
+    private static Object invoke(Method getter, Object target) {
+        return getter.invoke(target);
     }
 
     private void removeExtensions(ContainerNode node, Collection<String> remove) {
@@ -2,11 +2,10 @@ package com.backbase.oss.boat.transformers;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.License;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class LicenseAdder implements Transformer {
+public class LicenseAdder implements VisitingTransformer {
 
     public LicenseAdder(String licenseName, String licenseUrl) {
         this.licenseName = licenseName;
@@ -17,12 +16,10 @@ public class LicenseAdder implements Transformer {
     private final String licenseUrl;
 
     @Override
-    public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
+    public void visitOpenAPI(OpenAPI openAPI) {
         if (openAPI.getInfo().getLicense() == null) {
             openAPI.getInfo().setLicense(new License().name(licenseName).url(licenseUrl));
             log.info("Adding License: {} with url: {} to Schema: {}", licenseName, licenseUrl, openAPI.getInfo().getTitle());
         }
-
-        return openAPI;
     }
 }
@@ -0,0 +1,61 @@
+package com.backbase.oss.boat.transformers;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+
+/**
+ * Callbacks for the nodes of a spec, called by a single walk over the model.
+ *
+ * <p>All callbacks of a node are called, in the order of the visitors, before its children are read, so a visitor may
+ * replace or remove the children of the node it visits. When several visitors share one walk, a visitor sees the
+ * changes of the visitors before it on the same node, and every visitor, also one before it, visits the children that
+ * another visitor added or replaced. A shared walk therefore only gives the same result as separate walks when each
+ * callback reads and changes nothing but its own node, and does not depend on what other visitors change below it.</p>
+ *
+ * @see VisitingTransformer
+ * @see TransformerPipeline
+ */
+@SuppressWarnings("java:S3740")
+public interface ModelVisitor {
+
+    default void visitOpenAPI(OpenAPI openAPI) {
+    }
+
+    default void visitPathItem(String path, PathItem pathItem) {
+    }
+
+    /**
+     * Called for each operation of a path, after all visitors have seen the path item.
+     */
+    default void visitOperation(String path, Operation operation) {
+    }
+
+    /**
+     * Called for the parameters of path items and operations, and for the parameters in the components.
+     */
+    default void visitParameter(Parameter parameter) {
+    }
+
+    /**
+     * Called for the content of request bodies and responses, of both the operations and the components.
+     */
+    default void visitMediaType(String name, MediaType mediaType) {
+    }
+
+    /**
+     * Called for the schemas in the components.
+     */
+    default void visitSchema(String name, Schema schema) {
+    }
+
+    /**
+     * Called for the examples of media types and the examples in the components.
+     */
+    default void visitExample(String name, Example example) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.backbase.oss.boat.transformers;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Walks a spec once, calling every visitor on each node in the order of the visitors.
+ *
+ * <p>Children are read after all visitors have seen their parent, and maps are copied before they are iterated, so
+ * visitors can replace or remove what is below the node they visit.</p>
+ */
+@SuppressWarnings("java:S3740")
+class ModelWalker {
+
+    private final List<ModelVisitor> visitors;
+
+    ModelWalker(List<ModelVisitor> visitors) {
+        this.visitors = visitors;
+    }
+
+    void walk(OpenAPI openAPI) {
+        visitors.forEach(v -> v.visitOpenAPI(openAPI));
+
+        forEach(openAPI.getPaths(), this::walkPathItem);
+
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            forEach(components.getSchemas(), (name, schema) -> visitors.forEach(v -> v.visitSchema(name, schema)));
+            forEach(components.getParameters(), (name, parameter) -> walkParameter(parameter));
+            forEach(components.getRequestBodies(), (name, requestBody) -> walkRequestBody(requestBody));
+            forEach(components.getResponses(), (name, response) -> walkResponse(response));
+            forEach(components.getExamples(), (name, example) -> visitors.forEach(v -> v.visitExample(name, example)));
+        }
+    }
+
+    private void walkPathItem(String path, PathItem pathItem) {
+        if (pathItem == null) {
+            return;
+        }
+        visitors.forEach(v -> v.visitPathItem(path, pathItem));
+
+        walkParameters(pathItem.getParameters());
+        for (Operation operation : pathItem.readOperations()) {
+            walkOperation(path, operation);
+        }
+    }
+
+    private void walkOperation(String path, Operation operation) {
+        visitors.forEach(v -> v.visitOperation(path, operation));
+
+        walkParameters(operation.getParameters());
+        walkRequestBody(operation.getRequestBody());
+        forEach(operation.getResponses(), (code, response) -> walkResponse(response));
+    }
+
+    private void walkParameters(List<Parameter> parameters) {
+        if (parameters != null) {
+            new ArrayList<>(parameters).forEach(this::walkParameter);
+        }
+    }
+
+    private void walkParameter(Parameter parameter) {
+        if (parameter != null) {
+            visitors.forEach(v -> v.visitParameter(parameter));
+        }
+    }
+
+    private void walkRequestBody(RequestBody requestBody) {
+        if (requestBody != null) {
+            walkContent(requestBody.getContent());
+        }
+    }
+
+    private void walkResponse(ApiResponse response) {
+        if (response != null) {
+            walkContent(response.getContent());
+        }
+    }
+
+    private void walkContent(Content content) {
+        forEach(content, this::walkMediaType);
+    }
+
+    private void walkMediaType(String name, MediaType mediaType) {
+        if (mediaType == null) {
+            return;
+        }
+        visitors.forEach(v -> v.visitMediaType(name, mediaType));
+
+        forEach(mediaType.getExamples(), (exampleName, example) ->
+            visitors.forEach(v -> v.visitExample(exampleName, example)));
+    }
+
+    private static <T> void forEach(Map<String, T> map, BiConsumer<String, T> action) {
+        if (map != null) {
+            new ArrayList<>(map.entrySet()).forEach(e -> action.accept(e.getKey(), e.getValue()));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.backbase.oss.boat.transformers;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over every schema of a spec, including the schemas nested in other schemas.
+ *
+ * <p>Covers the schemas of parameters, request bodies, responses, headers and callbacks of all operations and of the
+ * components, and walks down properties, items, additional properties, {@code allOf}, {@code anyOf}, {@code oneOf}
+ * and {@code not}. References are not followed.</p>
+ *
+ * <p>The walk is lazy and uses its own stack, so deeply nested specs do not overflow the call stack. Each schema
+ * instance is returned once, which also stops the walk on recursive schemas. The children of a schema are read when
+ * the iteration moves past it, so a caller may change a schema before its children are walked.</p>
+ */
+@SuppressWarnings({"rawtypes", "java:S3740"})
+public class SchemaWalker implements Iterable<Schema> {
+
+    private final OpenAPI openAPI;
+
+    public SchemaWalker(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    @Override
+    public Iterator<Schema> iterator() {
+        return new SchemaIterator(openAPI);
+    }
+
+    @Override
+    public Spliterator<Schema> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    public Stream<Schema> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private static final class SchemaIterator implements Iterator<Schema> {
+
+        private final Deque<Object> stack = new ArrayDeque<>();
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Schema last;
+        private Schema next;
+
+        SchemaIterator(OpenAPI openAPI) {
+            stack.push(openAPI);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Schema next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = null;
+            return last;
+        }
+
+        private Schema advance() {
+            if (last != null) {
+                push(children(last));
+                last = null;
+            }
+            while (!stack.isEmpty()) {
+                Object node = stack.pop();
+                if (!visited.add(node)) {
+                    continue;
+                }
+                if (node instanceof Schema) {
+                    return (Schema) node;
+                }
+                push(children(node));
+            }
+            return null;
+        }
+
+        /**
+         * Pushes the children in reverse, so they are popped in the order of the spec.
+         */
+        private void push(List<Object> children) {
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+    }
+
+    @SuppressWarnings("java:S3776")
+    private static List<Object> children(Object node) {
+        List<Object> children = new ArrayList<>();
+        if (node instanceof Schema) {
+            Schema schema = (Schema) node;
+            addValues(children, schema.getProperties());
+            add(children, schema.getItems());
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                add(children, schema.getAdditionalProperties());
+            }
+            addAll(children, schema.getAllOf());
+            addAll(children, schema.getAnyOf());
+            addAll(children, schema.getOneOf());
+            add(children, schema.getNot());
+        } else if (node instanceof OpenAPI) {
+            OpenAPI openAPI = (OpenAPI) node;
+            addValues(children, openAPI.getPaths());
+            addValues(children, openAPI.getWebhooks());
+            add(children, openAPI.getComponents());
+        } else if (node instanceof Components) {
+            Components components = (Components) node;
+            addValues(children, components.getSchemas());
+            addValues(children, components.getParameters());
+            addValues(children, components.getRequestBodies());
+            addValues(children, components.getResponses());
+            addValues(children, components.getHeaders());
+            addValues(children, components.getCallbacks());
+            addValues(children, components.getPathItems());
+        } else if (node instanceof PathItem) {
+            PathItem pathItem = (PathItem) node;
+            addAll(children, pathItem.getParameters());
+            addAll(children, pathItem.readOperations());
+        } else if (node instanceof Operation) {
+            Operation operation = (Operation) node;
+            addAll(children, operation.getParameters());
+            add(children, operation.getRequestBody());
+            addValues(children, operation.getResponses());
+            addValues(children, operation.getCallbacks());
+        } else if (node instanceof Parameter) {
+            add(children, ((Parameter) node).getSchema());
+            add(children, ((Parameter) node).getContent());
+        } else if (node instanceof Header) {
+            add(children, ((Header) node).getSchema());
+            add(children, ((Header) node).getContent());
+        } else if (node instanceof RequestBody) {
+            add(children, ((RequestBody) node).getContent());
+        } else if (node instanceof ApiResponse) {
+            addValues(children, ((ApiResponse) node).getHeaders());
+            add(children, ((ApiResponse) node).getContent());
+        } else if (node instanceof Content || node instanceof Callback) {
+            addValues(children, (Map<String, ?>) node);
+        } else if (node instanceof MediaType) {
+            add(children, ((MediaType) node).getSchema());
+            addValues(children, ((MediaType) node).getEncoding());
+        } else if (node instanceof Encoding) {
+            addValues(children, ((Encoding) node).getHeaders());
+        }
+        return children;
+    }
+
+    private static void add(List<Object> children, Object child) {
+        if (child != null) {
+            children.add(child);
+        }
+    }
+
+    private static void addAll(List<Object> children, Collection<?> values) {
+        if (values != null) {
+            values.forEach(value -> add(children, value));
+        }
+    }
+
+    private static void addValues(List<Object> children, Map<String, ?> map) {
+        if (map != null) {
+            addAll(children, map.values());
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.backbase.oss.boat.transformers;
 
-import java.util.Map;
-
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import lombok.AllArgsConstructor;
@@ -16,20 +14,18 @@ import static java.util.Optional.ofNullable;
 @AllArgsConstructor
 @Getter
 @Setter
-public class SetVersion implements Transformer {
+public class SetVersion implements VisitingTransformer {
 
     @NonNull
     private String version;
 
     @Override
-    public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
+    public void visitOpenAPI(OpenAPI openAPI) {
         final Info info = ofNullable(openAPI.getInfo()).orElseGet(Info::new);
 
         info.setVersion(this.version);
 
         openAPI.setInfo(info);
-
-        return openAPI;
     }
 
     /**
@@ -6,6 +6,12 @@ import java.util.Map;
 
 import io.swagger.v3.oas.models.OpenAPI;
 
+/**
+ * Transforms a spec.
+ *
+ * <p>The same instance may be used for several specs, also concurrently, so implementations keep the state of a
+ * transformation local to that transformation.</p>
+ */
 public interface Transformer {
 
     default OpenAPI transform(OpenAPI openAPI) {
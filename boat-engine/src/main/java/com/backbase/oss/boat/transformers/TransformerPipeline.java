@@ -0,0 +1,51 @@
+package com.backbase.oss.boat.transformers;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies a list of transformers in order, fusing consecutive {@link VisitingTransformer}s into a single walk over
+ * the spec.
+ *
+ * <p>Other transformers are applied on their own, after the visiting transformers before them have finished. Within a
+ * fused walk every visitor is called on a node before any of them sees its children, so the result is only the same
+ * as applying the visiting transformers one after another when they follow the contract of {@link ModelVisitor}.</p>
+ */
+@Slf4j
+public class TransformerPipeline implements Transformer {
+
+    private final List<Transformer> transformers;
+
+    public TransformerPipeline(List<Transformer> transformers) {
+        this.transformers = new ArrayList<>(transformers);
+    }
+
+    @Override
+    public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
+        List<ModelVisitor> fused = new ArrayList<>();
+
+        for (Transformer transformer : transformers) {
+            if (transformer instanceof VisitingTransformer) {
+                fused.add((VisitingTransformer) transformer);
+            } else {
+                walk(openAPI, fused);
+                openAPI = transformer.transform(openAPI, options);
+            }
+        }
+        walk(openAPI, fused);
+
+        return openAPI;
+    }
+
+    private static void walk(OpenAPI openAPI, List<ModelVisitor> fused) {
+        if (fused.isEmpty()) {
+            return;
+        }
+        log.debug("Applying {} transformers in a single walk", fused.size());
+        new ModelWalker(new ArrayList<>(fused)).walk(openAPI);
+        fused.clear();
+    }
+}
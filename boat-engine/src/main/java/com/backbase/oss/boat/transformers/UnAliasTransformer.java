@@ -1,9 +1,13 @@
 package com.backbase.oss.boat.transformers;
 
+import static java.util.Collections.emptyMap;
+
 import com.google.common.collect.ImmutableSet;
 import io.swagger.v3.core.util.RefUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -19,14 +23,14 @@ public class UnAliasTransformer implements Transformer {
 
     @Override
     public OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
+        Aliases aliases = new Aliases(openAPI);
 
-        OpenApiStreamUtil.streamSchemas(openAPI)
-            .forEach(schema -> unAliasType(schema, openAPI));
+        new SchemaWalker(openAPI).forEach(schema -> unAliasType(schema, aliases));
 
         return openAPI;
     }
 
-    private void unAliasType(Schema schema, OpenAPI openAPI) {
+    private void unAliasType(Schema schema, Aliases aliases) {
         log.debug("Processing {}, ref {}", schema.getName(), schema.get$ref());
         if (schema.get$ref() == null) {
             return;
@@ -36,16 +40,7 @@ public class UnAliasTransformer implements Transformer {
                 schema.get$ref(), schema.getName());
             return;
         }
-        Schema referredSchema = schema;
-        int count = 0;
-        while (referredSchema.get$ref() != null) {
-            // sometimes references go wild...
-            referredSchema = openAPI.getComponents().getSchemas().get(RefUtils.extractSimpleName(
-                referredSchema.get$ref()).getLeft());
-            if (count++ > 20) {
-                throw new TransformerException("Did not resolve " + schema.get$ref() + " after following 20 refs.");
-            }
-        }
+        Schema referredSchema = aliases.resolve(schema.get$ref());
         if (!isAliasOfSimpleTypes(referredSchema)) {
             return;
         }
@@ -104,4 +99,49 @@ public class UnAliasTransformer implements Transformer {
         }
         return !NON_ALIAS_TYPES.contains(schema.getType());
     }
+
+    /**
+     * Resolves references to component schemas to the first schema down the chain that is not a reference. Every
+     * chain is followed once, and all schemas on it are resolved at the same time.
+     */
+    private static final class Aliases {
+
+        private final Map<String, Schema> schemas;
+        private final Map<String, Schema> resolved = new HashMap<>();
+
+        Aliases(OpenAPI openAPI) {
+            this.schemas = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null
+                ? openAPI.getComponents().getSchemas()
+                : emptyMap();
+        }
+
+        Schema resolve(String ref) {
+            Set<String> chain = new LinkedHashSet<>();
+            String name = nameOf(ref);
+            Schema schema = resolved.get(name);
+            while (schema == null) {
+                if (!chain.add(name)) {
+                    throw new TransformerException("Circular reference: " + String.join(" -> ", chain) + " -> " + name);
+                }
+                Schema referred = schemas.get(name);
+                if (referred == null) {
+                    throw new TransformerException("No component schema found by name " + name + " for " + ref);
+                }
+                if (referred.get$ref() == null) {
+                    schema = referred;
+                } else {
+                    name = nameOf(referred.get$ref());
+                    schema = resolved.get(name);
+                }
+            }
+            for (String alias : chain) {
+                resolved.put(alias, schema);
+            }
+            return schema;
+        }
+
+        private static String nameOf(String ref) {
+            return (String) RefUtils.extractSimpleName(ref).getLeft();
+        }
+    }
 }
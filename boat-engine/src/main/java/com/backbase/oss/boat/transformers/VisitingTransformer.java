@@ -0,0 +1,22 @@
+package com.backbase.oss.boat.transformers;
+
+import static java.util.Collections.singletonList;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.Map;
+
+/**
+ * A transformer that changes the spec in place from the callbacks of a {@link ModelVisitor}.
+ *
+ * <p>Applied on its own, it walks the spec once. In a {@link TransformerPipeline}, consecutive visiting transformers
+ * share a single walk, which is only safe when its callbacks follow the contract of {@link ModelVisitor}.</p>
+ */
+public interface VisitingTransformer extends Transformer, ModelVisitor {
+
+    @Override
+    default OpenAPI transform(OpenAPI openAPI, Map<String, Object> options) {
+        new ModelWalker(singletonList(this)).walk(openAPI);
+
+        return openAPI;
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.hash.Hashing;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -17,10 +18,15 @@ import io.swagger.v3.parser.models.RefFormat;
 import io.swagger.v3.parser.util.RefUtils;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -39,6 +45,13 @@ public class ExamplesProcessor {
     private final OpenAPI openAPI;
     private final URI rootUri;
     private final Map<String, ExampleHolder> cache = new LinkedHashMap<>();
+    // Names of the dereferenced examples by the digest of their content, and the lowest possibly free count for each
+    // root name
+    private final Map<String, List<String>> namesByContent = new HashMap<>();
+    private final Map<String, Integer> freeCounts = new HashMap<>();
+    // Example files are often shared by many refs, read and parse each of them once
+    private final Map<URI, String> contents = new HashMap<>();
+    private final Map<URI, JsonNode> trees = new HashMap<>();
 
     public ExamplesProcessor(OpenAPI openAPI, String inputUri) {
         super();
@@ -166,19 +179,17 @@ public class ExamplesProcessor {
 
         resolvedUri = resolveUri(relativePath, refPath);
         try {
-            String content = readContent(Paths.get(resolvedUri));
-
             if (fragment.isPresent()) {
                 String exampleName = StringUtils.substringAfterLast(fragment.get(), "/");
                 // resolve fragment from json node
-                JsonNode jsonNode = yamlObjectMapper.readTree(content);
+                JsonNode jsonNode = readTree(resolvedUri);
                 JsonPointer jsonPointer = JsonPointer.compile(fragment.get());
                 JsonNode exampleNode = jsonNode.at(jsonPointer);
 
                 processInLineExample(exampleHolder,relativePath,exampleNode, exampleName);
 
             } else {
-                exampleHolder.setContent(content);
+                exampleHolder.setContent(readContent(resolvedUri));
                 dereferenceExample(exampleHolder);
             }
             if (derefenceExamples) {
@@ -195,8 +206,7 @@ public class ExamplesProcessor {
             String refPath = exampleNode.get("$ref").asText();
             exampleHolder.replaceRef(refPath);
             URI resolvedUri = resolveUri(relativePath, refPath);
-            resolveUri(relativePath, refPath);
-            String content = readContent(Paths.get(resolvedUri));
+            String content = readContent(resolvedUri);
 
             exampleHolder.setContent(content);
             if (exampleName != null) {
@@ -217,7 +227,26 @@ public class ExamplesProcessor {
 
 
 
-    private String readContent(Path path) throws IOException {
+    private String readContent(URI uri) throws IOException {
+        String content = contents.get(uri);
+        if (content == null) {
+            content = readContent(Paths.get(uri));
+            contents.put(uri, content);
+        }
+        return content;
+    }
+
+    private JsonNode readTree(URI uri) throws IOException {
+        JsonNode tree = trees.get(uri);
+        if (tree == null) {
+            tree = yamlObjectMapper.readTree(readContent(uri));
+            trees.put(uri, tree);
+        }
+        return tree;
+    }
+
+    // Visible for testing
+    String readContent(Path path) throws IOException {
         String content;
         content = StringUtils.strip(StringUtils.replaceEach(
             new String(Files.readAllBytes(path)),
@@ -238,18 +267,60 @@ public class ExamplesProcessor {
     }
 
     private void dereferenceExample(ExampleHolder exampleHolder) {
-        String rootName = exampleHolder.getExampleName();
-        int count = 0;
-        while (existsButNotMatching(cache.get(makeCountedName(rootName, count)), exampleHolder)) {
-            count++;
-        }
-        String exampleName = makeCountedName(rootName, count);
+        String exampleName = exampleName(exampleHolder.getExampleName(), exampleHolder.getContent());
         Object content = convertExampleContent(exampleHolder, exampleHolder.getRef());
-        cache.put(exampleName, exampleHolder);
+        if (cache.put(exampleName, exampleHolder) == null) {
+            namesByContent.computeIfAbsent(digest(exampleHolder.getContent()), c -> new ArrayList<>()).add(exampleName);
+        }
         exampleHolder.replaceRef(COMPONENTS_EXAMPLES + exampleName);
         putComponentExample(exampleName, new Example().value(content).summary(exampleName));
     }
 
+    /**
+     * Finds the name for an example: the lowest counted name of the root name that is either not used yet or already
+     * holds the same content.
+     */
+    private String exampleName(String rootName, String content) {
+        // Names are never removed, so the lowest free count only moves up
+        int free = freeCounts.getOrDefault(rootName, 0);
+        while (cache.containsKey(makeCountedName(rootName, free))) {
+            free++;
+        }
+        freeCounts.put(rootName, free);
+
+        int count = free;
+        for (String name : namesByContent.getOrDefault(digest(content), Collections.emptyList())) {
+            int nameCount = countOf(rootName, name);
+            if (nameCount >= 0 && nameCount < count) {
+                count = nameCount;
+            }
+        }
+        return makeCountedName(rootName, count);
+    }
+
+    /**
+     * The inverse of {@link #makeCountedName(String, int)}, or -1 when the name is not a counted name of the root.
+     */
+    private int countOf(String rootName, String name) {
+        if (Objects.equals(rootName, name)) {
+            return 0;
+        }
+        String prefix = rootName + "-";
+        if (name == null || !name.startsWith(prefix) || !StringUtils.isNumeric(name.substring(prefix.length()))) {
+            return -1;
+        }
+        try {
+            int count = Integer.parseInt(name.substring(prefix.length()));
+            return name.equals(makeCountedName(rootName, count)) ? count : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String digest(String content) {
+        return content == null ? null : Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
     private Object convertExampleContent(ExampleHolder exampleHolder, String refPath) {
         try {
             if (exampleHolder.getRef().endsWith("json") || refPath.endsWith("json")) {
@@ -261,10 +332,6 @@ public class ExamplesProcessor {
         }
     }
 
-    private boolean existsButNotMatching(ExampleHolder cached, ExampleHolder exampleHolder) {
-        return cached != null && !Objects.equals(cached.getContent(), exampleHolder.getContent());
-    }
-
     private String makeCountedName(String s, int count) {
         return count == 0 ? s : s + "-" + count;
     }
@@ -0,0 +1,163 @@
+package com.backbase.oss.boat.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.backbase.oss.boat.serializer.SerializerUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenAPICacheTests {
+
+    private static final File INPUT = new File("src/test/resources/openapi/presentation-client-api/openapi.yaml");
+    private static final File OTHER_INPUT = new File("src/test/resources/openapi/un-alias-api/openapi.yaml");
+
+    @Test
+    void loadParsesOnce() throws OpenAPILoaderException {
+        OpenAPICache cache = new OpenAPICache();
+
+        OpenAPI first = cache.load(INPUT, false, false);
+        OpenAPI second = cache.load(INPUT, false, false);
+
+        assertNotSame(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(SerializerUtils.toYamlString(OpenAPILoader.load(INPUT)), SerializerUtils.toYamlString(second));
+    }
+
+    @Test
+    void loadReturnsCopies() throws OpenAPILoaderException {
+        OpenAPICache cache = new OpenAPICache();
+
+        cache.load(INPUT, false, false).getInfo().setTitle("changed");
+
+        assertEquals(OpenAPILoader.load(INPUT).getInfo().getTitle(), cache.load(INPUT, false, false).getInfo().getTitle());
+    }
+
+    @Test
+    void leastRecentlyUsedSpecsAreDroppedFromMemory() throws OpenAPILoaderException, IOException {
+        long entrySize = Json.mapper().writeValueAsBytes(OpenAPILoader.load(INPUT)).length;
+        OpenAPICache cache = new OpenAPICache(null, entrySize);
+
+        cache.load(INPUT, false, false);
+        cache.load(INPUT, false, false);
+        cache.load(OTHER_INPUT, false, false);
+        cache.load(INPUT, false, false);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void optionsArePartOfTheKey() throws OpenAPILoaderException {
+        OpenAPICache cache = new OpenAPICache();
+
+        cache.load(INPUT, false, false);
+        cache.load(INPUT, false, true);
+
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void changedReferenceIsParsedAgain(@TempDir Path tempDir) throws OpenAPILoaderException, IOException {
+        Path spec = tempDir.resolve("openapi.yaml");
+        Path schema = tempDir.resolve("schema.yaml");
+        Files.writeString(spec, "openapi: 3.0.3\n"
+            + "info:\n  title: Test\n  version: 1.0.0\n"
+            + "paths: {}\n"
+            + "components:\n  schemas:\n    Pet:\n      $ref: schema.yaml\n");
+        Files.writeString(schema, "type: object\n");
+        OpenAPICache cache = new OpenAPICache();
+
+        cache.load(spec.toFile(), false, false);
+        Files.writeString(schema, "type: string\n");
+        cache.load(spec.toFile(), false, false);
+
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void fullyResolvedSpecsAreNotCached() throws OpenAPILoaderException {
+        OpenAPICache cache = new OpenAPICache();
+
+        cache.load(INPUT, true, false);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void parseParsesOnce() throws OpenAPILoaderException, IOException {
+        String contents = new String(Files.readAllBytes(Paths.get(INPUT.toURI())));
+        OpenAPICache cache = new OpenAPICache();
+
+        cache.parse(contents);
+        cache.parse(contents);
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertThrows(OpenAPILoaderException.class, () -> cache.parse("not: an openapi"));
+    }
+
+    @Test
+    void storedSpecsAreReadByTheNextBuild(@TempDir Path cacheDir) throws OpenAPILoaderException {
+        OpenAPICache previousBuild = new OpenAPICache(cacheDir, Long.MAX_VALUE);
+        String parsed = SerializerUtils.toYamlString(previousBuild.load(INPUT, false, false));
+
+        OpenAPICache cache = new OpenAPICache(cacheDir, Long.MAX_VALUE);
+        OpenAPI stored = cache.load(INPUT, false, false);
+        cache.load(INPUT, false, false);
+
+        assertEquals(0, cache.getMisses());
+        assertEquals(1, cache.getDiskHits());
+        assertEquals(1, cache.getHits());
+        assertEquals(parsed, SerializerUtils.toYamlString(stored));
+    }
+
+    @Test
+    void leastRecentlyUsedSpecsAreEvicted(@TempDir Path cacheDir) throws OpenAPILoaderException, IOException {
+        new OpenAPICache(cacheDir, Long.MAX_VALUE).load(INPUT, false, false);
+        long entrySize = Files.size(entries(cacheDir).get(0));
+
+        new OpenAPICache(cacheDir, entrySize).load(OTHER_INPUT, false, false);
+
+        List<Path> entries = entries(cacheDir);
+        assertEquals(1, entries.size());
+        OpenAPICache cache = new OpenAPICache(cacheDir, Long.MAX_VALUE);
+        cache.load(INPUT, false, false);
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void unreadableEntriesAreParsedAgain(@TempDir Path cacheDir) throws OpenAPILoaderException, IOException {
+        new OpenAPICache(cacheDir, Long.MAX_VALUE).load(INPUT, false, false);
+        Files.writeString(entries(cacheDir).get(0), "{broken");
+
+        OpenAPICache cache = new OpenAPICache(cacheDir, Long.MAX_VALUE);
+        OpenAPI openAPI = cache.load(INPUT, false, false);
+
+        assertEquals(1, cache.getMisses());
+        assertFalse(openAPI.getPaths().isEmpty());
+    }
+
+    private static List<Path> entries(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
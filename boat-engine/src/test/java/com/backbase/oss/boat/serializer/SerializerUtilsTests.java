@@ -0,0 +1,42 @@
+package com.backbase.oss.boat.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.backbase.oss.boat.loader.OpenAPILoader;
+import com.backbase.oss.boat.loader.OpenAPILoaderException;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SerializerUtilsTests {
+
+    private static final File INPUT = new File("src/test/resources/openapi/presentation-client-api/openapi.yaml");
+
+    @Test
+    void writeYamlToStream() throws OpenAPILoaderException, IOException {
+        OpenAPI openAPI = OpenAPILoader.load(INPUT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SerializerUtils.writeYaml(openAPI, out);
+        out.write('#');
+
+        assertEquals(SerializerUtils.toYamlString(openAPI) + "#", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeYamlReplacesFile(@TempDir Path tempDir) throws OpenAPILoaderException, IOException {
+        OpenAPI openAPI = OpenAPILoader.load(INPUT);
+        Path output = tempDir.resolve("openapi.yaml");
+        Files.writeString(output, SerializerUtils.toYamlString(openAPI) + "left over from a longer file");
+
+        SerializerUtils.writeYaml(openAPI, output);
+
+        assertEquals(SerializerUtils.toYamlString(openAPI), Files.readString(output));
+    }
+}
@@ -15,6 +15,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +23,18 @@ class DereferenceComponentsPropertiesTransformerTests {
 
     private static final String APPLICATION_JSON = "application/json";
 
+    @Test
+    void testTransformerCanBeReused() throws OpenAPILoaderException {
+        File input = new File("src/test/resources/openapi/decomposer-test-api/openapi.yaml");
+        DereferenceComponentsPropertiesTransformer transformer = new DereferenceComponentsPropertiesTransformer();
+
+        transformer.transform(OpenAPILoader.load(input), emptyMap());
+        OpenAPI openAPI = transformer.transform(OpenAPILoader.load(input), emptyMap());
+
+        assertThat("ReferencingProperties properties of the second spec have been dereferenced.",
+            getProperty(openAPI, "direct", "ReferencingProperties").getDescription(), is("direct"));
+    }
+
     @Test
     void testDereferenceComponentsPropertiesApi() throws OpenAPILoaderException {
 
@@ -127,6 +140,35 @@ class DereferenceComponentsPropertiesTransformerTests {
 
 
 
+    @Test
+    void testRecursiveSchemasAreDereferencedOnce() {
+        Schema node = new Schema().name("Node").type("object")
+            .addProperty("parent", new Schema().$ref("#/components/schemas/Node"));
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Node", node));
+
+        new DereferenceComponentsPropertiesTransformer().transform(openAPI, emptyMap());
+
+        assertThat("Recursive property refers to the schema itself.", getProperty(openAPI, "parent", "Node"),
+            sameInstance(node));
+    }
+
+    @Test
+    void testCircularReferencesAreReported() {
+        Schema schema = new Schema().type("object").addProperty("value", new Schema().$ref("#/components/schemas/A"));
+        OpenAPI openAPI = new OpenAPI().components(new Components()
+            .addSchemas("Model", schema)
+            .addSchemas("A", new Schema().$ref("#/components/schemas/B"))
+            .addSchemas("B", new Schema().$ref("#/components/schemas/A")));
+        DereferenceComponentsPropertiesTransformer transformer = new DereferenceComponentsPropertiesTransformer();
+        Map<String, Object> options = emptyMap();
+
+        TransformerException exception = assertThrows(TransformerException.class,
+            () -> transformer.transform(openAPI, options));
+
+        assertEquals("Circular reference: #/components/schemas/A -> #/components/schemas/B -> #/components/schemas/A",
+            exception.getMessage());
+    }
+
     private Schema getProperty(OpenAPI openAPI, String direct, String component) {
         return (Schema) openAPI.getComponents().getSchemas().get(component).getProperties().get(direct);
     }
@@ -1,18 +1,27 @@
 package com.backbase.oss.boat.transformers;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.backbase.oss.boat.loader.OpenAPILoader;
 import com.backbase.oss.boat.serializer.SerializerUtils;
 
 import java.io.File;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
@@ -34,5 +43,23 @@ class ExtensionFilterTests {
         assertThat(s, not(containsString("x-remove")));
     }
 
-}
+    @Test
+    void removesInPlace() throws Throwable {
+        ExtensionFilter trn = new ExtensionFilter();
+        trn.setRemove(singletonList("remove"));
+
+        OpenAPI api = OpenAPILoader.load(new File("src/test/resources/openapi/extension-filter/openapi.yaml"));
+        ObjectNode value = JsonNodeFactory.instance.objectNode();
+        value.putObject("nested").put("x-remove", "remove").put("x-keep", "keep");
+        api.getComponents().setExamples(Map.of("example", new Example().value(value)));
+
+        assertSame(api, trn.transform(api, emptyMap()));
 
+        assertEquals(singletonMap("x-keep", "keep"), api.getExtensions());
+        assertEquals(singletonMap("x-keep", "keep"), api.getPaths().get("/").getGet().getExtensions());
+        assertEquals(singletonMap("x-keep", "keep"),
+            ((Schema<?>) api.getComponents().getSchemas().get("One").getProperties().get("id")).getExtensions());
+        assertEquals("{\"nested\":{\"x-keep\":\"keep\"}}", value.toString());
+    }
+
+}
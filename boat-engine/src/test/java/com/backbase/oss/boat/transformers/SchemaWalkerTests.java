@@ -0,0 +1,103 @@
+package com.backbase.oss.boat.transformers;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("rawtypes")
+class SchemaWalkerTests {
+
+    @Test
+    void walksEverySchemaLocation() {
+        Operation callbackOperation = new Operation()
+            .addParametersItem(new Parameter().name("callback").schema(named("callbackParameter")));
+        Operation operation = new Operation()
+            .addParametersItem(new Parameter().name("query").schema(named("parameter")))
+            .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                .addHeaderObject("X-Header", new Header().schema(named("header")))
+                .content(new Content().addMediaType("application/json", new MediaType()
+                    .schema(new ArraySchema().items(named("item")).name("response"))))))
+            .callbacks(singletonMap("onEvent",
+                new Callback().addPathItem("{$request.body#/url}", new PathItem().post(callbackOperation))));
+        ComposedSchema composed = new ComposedSchema();
+        composed.name("composed").addOneOfItem(named("oneOf")).addAnyOfItem(named("anyOf")).addAllOfItem(named("allOf"));
+        OpenAPI openAPI = new OpenAPI()
+            .paths(new Paths().addPathItem("/things", new PathItem().get(operation)))
+            .components(new Components()
+                .addSchemas("Composed", composed)
+                .addSchemas("Object", named("object").addProperty("property", named("property"))));
+
+        List<String> names = new SchemaWalker(openAPI).stream().map(Schema::getName).collect(toList());
+
+        assertThat(names, contains("parameter", "header", "response", "item", "callbackParameter",
+            "composed", "allOf", "anyOf", "oneOf", "object", "property"));
+    }
+
+    @Test
+    void walksRecursiveSchemasOnce() {
+        Schema node = named("node");
+        node.addProperty("parent", node);
+        node.addProperty("children", new ArraySchema().items(node).name("children"));
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Node", node));
+
+        List<String> names = new SchemaWalker(openAPI).stream().map(Schema::getName).collect(toList());
+
+        assertThat(names, contains("node", "children"));
+    }
+
+    @Test
+    void walksDeeplyNestedSchemas() {
+        Schema root = named("root");
+        Schema current = root;
+        for (int i = 0; i < 20_000; i++) {
+            Schema child = named("child" + i);
+            current.addProperty("child", child);
+            current = child;
+        }
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Root", root));
+
+        assertEquals(20_001, new SchemaWalker(openAPI).stream().count());
+    }
+
+    @Test
+    void readsChildrenAfterTheCallerSawTheSchema() {
+        Schema root = named("root").addProperty("old", named("old"));
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Root", root));
+        List<String> names = new ArrayList<>();
+
+        new SchemaWalker(openAPI).forEach(schema -> {
+            names.add(schema.getName());
+            if (schema == root) {
+                root.getProperties().clear();
+                root.addProperty("new", named("new"));
+            }
+        });
+
+        assertThat(names, contains("root", "new"));
+    }
+
+    private static Schema named(String name) {
+        return new Schema().name(name);
+    }
+}
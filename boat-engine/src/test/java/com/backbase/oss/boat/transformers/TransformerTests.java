@@ -2,13 +2,19 @@ package com.backbase.oss.boat.transformers;
 
 import com.backbase.oss.boat.loader.OpenAPILoader;
 import com.backbase.oss.boat.loader.OpenAPILoaderException;
+import com.backbase.oss.boat.serializer.SerializerUtils;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.CaseFormat;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
 import java.io.File;
 import java.util.*;
 
+import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +33,81 @@ class TransformerTests {
 
 
 
+    @Test
+    void testUnAliasFollowsLongChains() {
+        OpenAPI openAPI = new OpenAPI().paths(new Paths()).components(new Components());
+        openAPI.getComponents().addSchemas("Alias0", new Schema().type("string").maxLength(10));
+        for (int i = 1; i <= 30; i++) {
+            openAPI.getComponents().addSchemas("Alias" + i, new Schema().$ref("#/components/schemas/Alias" + (i - 1)));
+        }
+        Schema property = new Schema().$ref("#/components/schemas/Alias30");
+        openAPI.getComponents().addSchemas("Model", new Schema().type("object").addProperty("value", property));
+
+        new UnAliasTransformer().transform(openAPI, Collections.emptyMap());
+
+        assertNull(property.get$ref());
+        assertEquals("string", property.getType());
+        assertEquals(10, property.getMaxLength());
+    }
+
+    @Test
+    void testUnAliasReportsCircularReferences() {
+        OpenAPI openAPI = new OpenAPI().paths(new Paths()).components(new Components());
+        openAPI.getComponents().addSchemas("A", new Schema().$ref("#/components/schemas/B"));
+        openAPI.getComponents().addSchemas("B", new Schema().$ref("#/components/schemas/A"));
+        Map<String, Object> options = Collections.emptyMap();
+        UnAliasTransformer transformer = new UnAliasTransformer();
+
+        TransformerException exception = assertThrows(TransformerException.class,
+            () -> transformer.transform(openAPI, options));
+
+        assertEquals("Circular reference: B -> A -> B", exception.getMessage());
+    }
+
+    @Test
+    void testDecomposerMergesSharedParentsOnce() {
+        OpenAPI openAPI = new OpenAPI().components(new Components());
+        openAPI.getComponents().addSchemas("Root", new Schema().addProperty("version", new Schema().type("string")));
+        openAPI.getComponents().addSchemas("Base", composed("Root").addProperty("id", new Schema().type("string"))
+            .required(new ArrayList<>(Collections.singletonList("id"))));
+        openAPI.getComponents().addSchemas("Named", composed("Base").addProperty("name", new Schema().type("string")));
+        openAPI.getComponents().addSchemas("Person", composed("Named").addProperty("age", new Schema().type("integer")));
+        openAPI.getComponents().addSchemas("Company", composed("Named"));
+        Decomposer decomposer = new Decomposer();
+
+        decomposer.transform(openAPI, null);
+
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        assertEquals(Arrays.asList("age", "name", "id", "version"),
+            new ArrayList<>(schemas.get("Person").getProperties().keySet()));
+        assertEquals(Arrays.asList("name", "id", "version"),
+            new ArrayList<>(schemas.get("Company").getProperties().keySet()));
+        assertEquals(Collections.singletonList("id"), schemas.get("Person").getRequired());
+        assertNull(((ComposedSchema) schemas.get("Named")).getAllOf());
+        // Root into Base, Base into Named, and Named into Person and Company
+        assertEquals(4, decomposer.getMerges());
+    }
+
+    @Test
+    void testDecomposerReportsCircularAllOf() {
+        OpenAPI openAPI = new OpenAPI().components(new Components());
+        openAPI.getComponents().addSchemas("A", composed("B"));
+        openAPI.getComponents().addSchemas("B", composed("C"));
+        openAPI.getComponents().addSchemas("C", composed("A"));
+        Decomposer decomposer = new Decomposer();
+
+        TransformerException exception = assertThrows(TransformerException.class,
+            () -> decomposer.transform(openAPI, null));
+
+        assertEquals("Circular allOf: A -> B -> C -> A", exception.getMessage());
+    }
+
+    private static ComposedSchema composed(String parent) {
+        ComposedSchema schema = new ComposedSchema();
+        schema.addAllOfItem(new Schema().$ref("#/components/schemas/" + parent));
+        return schema;
+    }
+
     @Test
     void testCaseFormatTransformer() throws OpenAPILoaderException {
         File input = new File("src/test/resources/openapi/presentation-client-api/openapi.yaml");
@@ -43,7 +124,92 @@ class TransformerTests {
         assertFalse(openAPI.toString().contains("{ \"name\":\"John\" }"));
     }
 
+    @Test
+    void testCaseFormatTransformerRenamesExampleKeys() {
+        OpenAPI openAPI = new OpenAPI().paths(new Paths()).components(new Components());
+        Schema schema = new Schema();
+        schema.addProperty("accountIBAN", new Schema().type("string"));
+        schema.example("{\"accountIBAN\": \"NL00\", \"homeURL\": [{\"linkURL\": 1.5}], \"account_i_b_a_n\": null}");
+        openAPI.getComponents().addSchemas("Account", schema);
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("i_b_a_n", "iban");
+        overrides.put("u_r_l", "url");
+
+        new CaseFormatTransformer().transform(openAPI, CaseFormat.LOWER_CAMEL, CaseFormat.LOWER_UNDERSCORE, overrides);
+
+        assertEquals(Collections.singleton("account_iban"), schema.getProperties().keySet());
+        assertEquals("{\n  \"account_iban\" : null,\n  \"home_url\" : [ {\n    \"link_url\" : 1.5\n  } ]\n}",
+            schema.getExample());
+    }
+
+    @Test
+    void testPipelineFusesVisitingTransformers() throws OpenAPILoaderException {
+        File input = new File("src/test/resources/psd2/psd2-api-1.3.5-20191216v1.yaml");
+        List<String> visited = new ArrayList<>();
+        VisitingTransformer first = new VisitingTransformer() {
+            @Override
+            public void visitPathItem(String path, PathItem pathItem) {
+                visited.add("first " + path);
+            }
+        };
+        VisitingTransformer second = new VisitingTransformer() {
+            @Override
+            public void visitPathItem(String path, PathItem pathItem) {
+                visited.add("second " + path);
+            }
+        };
+
+        OpenAPI fused = new TransformerPipeline(Arrays.asList(
+            new SetVersion("2.0.0"), first, new Normaliser(), second, new Deprecator()))
+            .transform(OpenAPILoader.load(input), Collections.emptyMap());
 
+        OpenAPI sequential = OpenAPILoader.load(input);
+        for (Transformer transformer : Arrays.asList(new SetVersion("2.0.0"), new Normaliser(), new Deprecator())) {
+            sequential = transformer.transform(sequential, Collections.emptyMap());
+        }
 
+        assertEquals(SerializerUtils.toYamlString(sequential), SerializerUtils.toYamlString(fused));
+        String firstPath = fused.getPaths().keySet().iterator().next();
+        assertEquals(Arrays.asList("first " + firstPath, "second " + firstPath), visited.subList(0, 2));
+    }
+
+    @Test
+    void testPipelineVisitsChildrenAddedByLaterVisitors() {
+        VisitingTransformer describer = new VisitingTransformer() {
+            @Override
+            public void visitParameter(Parameter parameter) {
+                parameter.setDescription("visited");
+            }
+        };
+        VisitingTransformer adder = new VisitingTransformer() {
+            @Override
+            public void visitPathItem(String path, PathItem pathItem) {
+                pathItem.setSummary("added");
+                pathItem.addParametersItem(new Parameter().name("added").in("query"));
+            }
+        };
+        VisitingTransformer summarizer = new VisitingTransformer() {
+            @Override
+            public void visitPathItem(String path, PathItem pathItem) {
+                pathItem.setDescription(pathItem.getSummary());
+            }
+        };
+
+        OpenAPI fused = new TransformerPipeline(Arrays.asList(describer, adder, summarizer))
+            .transform(new OpenAPI().paths(new Paths().addPathItem("/pets", new PathItem())),
+                Collections.emptyMap());
+
+        PathItem pathItem = fused.getPaths().get("/pets");
+        // The parameter added by a later visitor is visited by an earlier one
+        assertEquals("visited", pathItem.getParameters().get(0).getDescription());
+        // On the same node, a visitor sees the changes of the visitors before it
+        assertEquals("added", pathItem.getDescription());
+
+        OpenAPI sequential = new OpenAPI().paths(new Paths().addPathItem("/pets", new PathItem()));
+        for (Transformer transformer : Arrays.asList(describer, adder, summarizer)) {
+            sequential = transformer.transform(sequential, Collections.emptyMap());
+        }
+        assertNull(sequential.getPaths().get("/pets").getParameters().get(0).getDescription());
+    }
 
 }
@@ -0,0 +1,84 @@
+package com.backbase.oss.boat.transformers.bundler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExamplesProcessorTests {
+
+    @Test
+    void examplesWithSameContentShareTheirName(@TempDir Path directory) throws IOException {
+        write(directory, "pet.json", "{\"name\": \"Rex\"}");
+        write(directory, "same-pet.json", "{\"name\": \"Rex\"}");
+        write(directory, "other-pet.json", "{\"name\": \"Tom\"}");
+        write(directory, "another-pet.json", "{\"name\": \"Kit\"}");
+
+        OpenAPI openAPI = new OpenAPI();
+        ExamplesProcessor processor = new ExamplesProcessor(openAPI, directory.resolve("openapi.yaml").toUri().toString());
+        List<String> refs = new ArrayList<>();
+        for (String file : new String[]{"pet.json", "same-pet.json", "other-pet.json", "another-pet.json",
+            "other-pet.json", "same-pet.json"}) {
+            refs.add(process(processor, file));
+        }
+
+        assertThat(refs, contains("#/components/examples/pet", "#/components/examples/pet",
+            "#/components/examples/pet-1", "#/components/examples/pet-2", "#/components/examples/pet-1",
+            "#/components/examples/pet"));
+        assertThat(openAPI.getComponents().getExamples().keySet(), contains("pet", "pet-1", "pet-2"));
+        assertThat(String.valueOf(openAPI.getComponents().getExamples().get("pet-1").getValue()),
+            containsString("Tom"));
+    }
+
+    @Test
+    void sharedExampleFilesAreReadOnce(@TempDir Path directory) throws IOException {
+        write(directory, "pet.json", "{\"name\": \"Rex\"}");
+        write(directory, "pets.yaml", "rex:\n  name: Rex\ntom:\n  name: Tom\n");
+
+        OpenAPI openAPI = new OpenAPI();
+        ExamplesProcessor processor = spy(
+            new ExamplesProcessor(openAPI, directory.resolve("openapi.yaml").toUri().toString()));
+        List<String> refs = new ArrayList<>();
+        for (String file : new String[]{"pet.json", "pets.yaml#/rex", "pet.json", "pets.yaml#/tom", "pet.json"}) {
+            refs.add(process(processor, file));
+        }
+
+        verify(processor, times(1)).readContent(directory.resolve("pet.json"));
+        verify(processor, times(1)).readContent(directory.resolve("pets.yaml"));
+        assertThat(refs, contains("#/components/examples/pet", "#/components/examples/pet-1",
+            "#/components/examples/pet", "#/components/examples/pet-2", "#/components/examples/pet"));
+        assertThat(openAPI.getComponents().getExamples().keySet(), contains("pet", "pet-1", "pet-2"));
+        assertThat(String.valueOf(openAPI.getComponents().getExamples().get("pet-1").getValue()),
+            containsString("Rex"));
+        assertThat(String.valueOf(openAPI.getComponents().getExamples().get("pet-2").getValue()),
+            containsString("Tom"));
+    }
+
+    private static String process(ExamplesProcessor processor, String file) {
+        Example example = new Example();
+        example.set$ref(file);
+        MediaType mediaType = new MediaType();
+        mediaType.addExamples("pet", example);
+        processor.processContent(new Content().addMediaType("application/json", mediaType), null);
+        return example.get$ref();
+    }
+
+    private static void write(Path directory, String file, String content) throws IOException {
+        Files.write(directory.resolve(file), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,7 +5,6 @@ import com.backbase.oss.boat.quay.BoatLinter;
 import com.backbase.oss.boat.quay.model.BoatLintReport;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -42,28 +41,30 @@ public abstract class AbstractLintMojo extends InputMavenArtifactMojo {
         "151","129","146","147","172","145","115","132","120", "134","183","154","105","104","130","118","110","153",
         "101","176","116","M009","H002","M010","H001","M008","S005","S006","S007","M011"};
 
+    /**
+     * Number of threads used to lint the specs found in the input directory. Reports are always returned in the
+     * order of the spec file names.
+     */
+    @Parameter(name = "threads", property = "boat.lint.threads", defaultValue = "1")
+    protected int threads = 1;
+
     protected List<BoatLintReport> lint() throws MojoExecutionException, MojoFailureException {
 
         super.execute();
 
-        List<BoatLintReport> boatLintReports = new ArrayList<>();
-
         File[] inputFiles;
         if (input.isDirectory()) {
             inputFiles = input.listFiles(pathname -> pathname.getName().endsWith(".yaml"));
             if (inputFiles == null || inputFiles.length == 0) {
                 throw new MojoExecutionException("No OpenAPI specs found in: " + inputSpec);
             }
+            Arrays.sort(inputFiles);
             log.info("Found " + inputFiles.length + " specs to lint.");
         } else {
             inputFiles = new File[]{input};
         }
 
-        for (File inputFile : inputFiles) {
-            boatLintReports.add(lintOpenAPI(inputFile));
-        }
-        return boatLintReports;
-
+        return ParallelRunner.run(Arrays.asList(inputFiles), threads, "lint", "specs", this::lintOpenAPI);
     }
 
     private BoatLintReport lintOpenAPI(File inputFile) throws MojoExecutionException {
@@ -71,8 +72,7 @@ public abstract class AbstractLintMojo extends InputMavenArtifactMojo {
             if(showIgnoredRules) {
                 log.info("These rules will be ignored: {}", Arrays.toString(ignoreRules));
             }
-            BoatLinter boatLinter = new BoatLinter(ignoreRules);
-            return boatLinter.lint(inputFile);
+            return BoatLinter.forIgnoredRules(ignoreRules).lint(inputFile);
         } catch (IOException e) {
             throw new MojoExecutionException("Error transforming OpenAPI: " + inputFile, e);
         } catch (OpenAPILoaderException e) {
@@ -92,4 +92,8 @@ public abstract class AbstractLintMojo extends InputMavenArtifactMojo {
     public void setIgnoreRules(String[] ignoreRules) {
         this.ignoreRules = ignoreRules;
     }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
 }
@@ -0,0 +1,111 @@
+package com.backbase.oss.boat;
+
+import com.backbase.oss.boat.diff.BatchOpenApiDiff;
+import com.backbase.oss.boat.diff.DiffCache;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Diffs each version of the specs in a directory with the previous one and adds the cumulative changelog to it.
+ */
+@Mojo(name = "batch-diff", threadSafe = true)
+@Slf4j
+@Getter
+@Setter
+public class BatchDiffMojo extends AbstractMojo {
+
+    /**
+     * Directory with the versions of the specs, which are updated with their changelog.
+     */
+    @Parameter(name = "input", required = true, defaultValue = "${project.build.directory}/openapi")
+    private File input;
+
+    /**
+     * Append the changelog to the description of each spec.
+     */
+    @Parameter(name = "insertIntoSpec", defaultValue = "true")
+    private boolean insertIntoSpec = true;
+
+    /**
+     * Write the changelog to a {@code changelog.md} next to the specs.
+     */
+    @Parameter(name = "writeChangelogToSeparateFile", defaultValue = "true")
+    private boolean writeChangelogToSeparateFile = true;
+
+    /**
+     * Number of specs parsed or compared at the same time.
+     */
+    @Parameter(name = "threads", property = "boat.diff.threads", defaultValue = "1")
+    private int threads = 1;
+
+    /**
+     * Directory that keeps the changelogs of compared versions across builds, for instance {@code ~/.boat/diff}.
+     */
+    @Parameter(name = "cacheDirectory", property = "boat.diff.cacheDirectory")
+    private String cacheDirectory;
+
+    /**
+     * Maximum size in megabytes of the cache directory.
+     */
+    @Parameter(name = "cacheMaxSize", property = "boat.diff.cacheMaxSize", defaultValue = "64")
+    private long cacheMaxSize = 64;
+
+    /**
+     * Skip the execution.
+     */
+    @Parameter(name = "skip", property = "boat.diff.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            log.info("Skipping batch diff.");
+            return;
+        }
+        if (!input.isDirectory()) {
+            throw new MojoExecutionException("Input must be a directory: " + input);
+        }
+
+        DiffCache cache = cache();
+        Map<File, OpenAPI> success = new HashMap<>();
+        Map<String, String> failed = new HashMap<>();
+        try {
+            BatchOpenApiDiff.diff(input.toPath(), success, failed, insertIntoSpec, writeChangelogToSeparateFile,
+                threads, cache);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to diff specs in: " + input, e);
+        }
+        if (cache != null) {
+            log.info("Changelog cache: {} hits, {} misses", cache.getHits(), cache.getMisses());
+        }
+
+        if (!failed.isEmpty()) {
+            failed.forEach((spec, error) -> log.error("Failed to diff {}: {}", spec, error));
+            throw new MojoExecutionException("Failed to diff " + failed.size() + " specs in: " + input);
+        }
+        log.info("Added changelogs to {} specs in: {}", success.size(), input);
+    }
+
+    private DiffCache cache() {
+        if (StringUtils.isBlank(cacheDirectory)) {
+            return null;
+        }
+        Path path = cacheDirectory.startsWith("~")
+            ? Paths.get(System.getProperty("user.home"), cacheDirectory.substring(1))
+            : Paths.get(cacheDirectory);
+        return new DiffCache(path, cacheMaxSize * 1024 * 1024);
+    }
+}
@@ -6,7 +6,6 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.isNumeric;
 
-import com.backbase.oss.boat.loader.OpenAPILoader;
 import com.backbase.oss.boat.loader.OpenAPILoaderException;
 import com.backbase.oss.boat.serializer.SerializerUtils;
 import com.backbase.oss.boat.transformers.Bundler;
@@ -15,16 +14,18 @@ import com.backbase.oss.boat.transformers.ExtensionFilter;
 import io.swagger.v3.oas.models.OpenAPI;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -66,6 +67,15 @@ public class BundleMojo extends AbstractMojo {
     @Parameter(name = "skip", property = "bundle.skip", defaultValue = "false", alias = "codegen.skip")
     private boolean skip;
 
+    /**
+     * Number of threads used to bundle the specs found in the input directory.
+     */
+    @Parameter(name = "threads", property = "boat.bundle.threads", defaultValue = "1")
+    private int threads = 1;
+
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         if (skip) {
@@ -88,6 +98,7 @@ public class BundleMojo extends AbstractMojo {
             directoryScanner.setIncludes(includes);
             directoryScanner.scan();
             String[] includedFiles = directoryScanner.getIncludedFiles();
+            Arrays.sort(includedFiles);
             inputFiles = stream(includedFiles).map(f -> new File(input, f)).collect(Collectors.toList()).toArray(File[]::new);
             outputFiles = stream(includedFiles)
                 .map(file -> new File(output, file))
@@ -99,16 +110,20 @@ public class BundleMojo extends AbstractMojo {
             outputFiles = new File[] {output};
         }
 
+        Map<File, File> outputs = new HashMap<>();
         for (int i = 0; i < inputFiles.length; i++) {
-            bundleOpenAPI(inputFiles[i], outputFiles[i]);
+            outputs.put(inputFiles[i], outputFiles[i]);
         }
-
+        ParallelRunner.run(Arrays.asList(inputFiles), threads, "bundle", "specs", inputFile -> {
+            bundleOpenAPI(inputFile, outputs.get(inputFile));
+            return null;
+        });
     }
 
     private void bundleOpenAPI(File inputFile, File outputFile) throws MojoExecutionException {
         try {
             log.info("Bundling {} into a single OpenAPI file: {}", inputFile, outputFile);
-            OpenAPI openAPI = OpenAPILoader.load(inputFile);
+            OpenAPI openAPI = OpenAPISessionCache.get(session).load(inputFile, false, false);
 
             if (isNotBlank(version)) {
                 openAPI = new SetVersion(version)
@@ -132,10 +147,10 @@ public class BundleMojo extends AbstractMojo {
                 outputFile = Paths.get(versionedFileName).toFile();
 
             }
-            Files.write(outputFile.toPath(), SerializerUtils.toYamlString(openAPI).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
+            SerializerUtils.writeYaml(openAPI, outputFile.toPath());
             log.info("Bundled: {} into: {}", inputFile, outputFile);
         } catch (OpenAPILoaderException | IOException e) {
-            throw new MojoExecutionException("Error transforming OpenAPI: {}" + inputFile, e);
+            throw new MojoExecutionException("Error transforming OpenAPI: " + inputFile, e);
         }
     }
 
@@ -23,9 +23,12 @@ import static org.openapitools.codegen.config.CodegenConfiguratorUtils.applyServ
 import static org.openapitools.codegen.config.CodegenConfiguratorUtils.applyTypeMappingsKvp;
 import static org.openapitools.codegen.config.CodegenConfiguratorUtils.applyTypeMappingsKvpList;
 
+import com.backbase.oss.boat.loader.OpenAPICache;
+import com.backbase.oss.boat.loader.OpenAPIFiles;
 import com.backbase.oss.boat.transformers.Bundler;
 import com.backbase.oss.boat.transformers.DereferenceComponentsPropertiesTransformer;
 import com.backbase.oss.boat.transformers.UnAliasTransformer;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.CharSource;
@@ -46,7 +49,10 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,8 +62,10 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -69,11 +77,15 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.config.Context;
+import org.openapitools.codegen.config.GeneratorSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.WorkflowSettings;
 import org.sonatype.plexus.build.incremental.BuildContext;
 import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
@@ -202,6 +214,13 @@ public class GenerateMojo extends InputMavenArtifactMojo {
     @Parameter(name = "skipOverwrite", property = "openapi.generator.maven.plugin.skipOverwrite", required = false)
     protected Boolean skipOverwrite;
 
+    /**
+     * Only write the generated files whose content changed, and remove the files of the previous execution that are no
+     * longer generated.
+     */
+    @Parameter(name = "minimalUpdate", property = "openapi.generator.maven.plugin.minimalUpdate", required = false, defaultValue = "false")
+    protected boolean minimalUpdate;
+
     /**
      * The package to use for generated api objects/classes.
      */
@@ -438,11 +457,25 @@ public class GenerateMojo extends InputMavenArtifactMojo {
     protected boolean skip;
 
     /**
-     * Skip the execution if the source file is older than the output folder.
+     * Skip the execution if neither the input spec, the files it references nor the generator configuration changed
+     * since the previous execution.
      */
     @Parameter(name = "skipIfSpecIsUnchanged", property = "codegen.skipIfSpecIsUnchanged", required = false, defaultValue = "false")
     protected boolean skipIfSpecIsUnchanged;
 
+    /**
+     * Additional generators that run on the same spec, so the spec is parsed and transformed once for all of them.
+     * Each target generates from its own copy of the spec into its own output.
+     */
+    @Parameter(name = "targets")
+    protected GenerateTarget[] targets;
+
+    /**
+     * Number of threads used to run the generator of the execution and its targets.
+     */
+    @Parameter(name = "targetThreads", property = "codegen.targetThreads", defaultValue = "1")
+    protected int targetThreads = 1;
+
     /**
      * Add the output directory to the project as a source root, so that the generated java types
      * are compiled and included in the project artifact.
@@ -497,6 +530,18 @@ public class GenerateMojo extends InputMavenArtifactMojo {
     @Parameter(name = "schemaMappings", property = "openapi.generator.maven.plugin.schemaMappings")
     private List<String> schemaMappings;
 
+    /**
+     * Version of this plugin, its templates are part of the input fingerprint.
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
+    /**
+     * Id of the execution of this goal, it tells apart the generated files of executions that share an output.
+     */
+    @Parameter(defaultValue = "${mojoExecution.executionId}", readonly = true)
+    protected String executionId;
+
     public void setBuildContext(BuildContext buildContext) {
         this.buildContext = buildContext;
     }
@@ -542,6 +587,7 @@ public class GenerateMojo extends InputMavenArtifactMojo {
             }
         }
 
+        checkTargets();
         addCompileSourceRootIfConfigured();
 
         try {
@@ -552,10 +598,12 @@ public class GenerateMojo extends InputMavenArtifactMojo {
                 return;
             }
 
+            // Calculated before the configuration is adjusted below, so the next execution calculates the same hash
+            String inputSpecHash = calculateInputSpecHash(inputSpecFile);
+
             if (skipIfSpecIsUnchanged && inputSpecFile.exists()) {
                 File storedInputSpecHashFile = getHashFile(inputSpecFile);
                 if (storedInputSpecHashFile.exists()) {
-                    String inputSpecHash = calculateInputSpecHash(inputSpecFile);
                     String storedInputSpecHash = Files.asCharSource(storedInputSpecHashFile, StandardCharsets.UTF_8)
                         .read();
                     if (inputSpecHash.equals(storedInputSpecHash)) {
@@ -587,6 +635,8 @@ public class GenerateMojo extends InputMavenArtifactMojo {
                 configurator.setSkipOverwrite(skipOverwrite);
             }
 
+            configurator.setEnableMinimalUpdate(minimalUpdate);
+
             if (removeOperationIdPrefix != null) {
                 configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
             }
@@ -642,21 +692,7 @@ public class GenerateMojo extends InputMavenArtifactMojo {
             }
 
             if (isNotEmpty(generatorName)) {
-                switch (generatorName) {
-                    case "java":
-                    case "spring":
-                        generatorName = "boat-" + generatorName;
-                        break;
-
-                    case "html2":
-                        generatorName = "boat-docs";
-                        break;
-                    case "boat-swift5":
-                        generatorName = "boat-swift5";
-                        break;
-                    default:
-                        // use the original generator
-                }
+                generatorName = boatGeneratorName(generatorName);
 
                 configurator.setGeneratorName(generatorName);
 
@@ -880,17 +916,15 @@ public class GenerateMojo extends InputMavenArtifactMojo {
                 }
             }
 
-            final ClientOptInput input = configurator.toClientOptInput();
+            // The targets are configured from the settings and the spec of this execution
+            final Context<?> context = hasTargets() ? configurator.toContext() : null;
+            final ClientOptInput input = context != null
+                ? new ParsedSpecConfigurator(context, ParsedSpecConfigurator.userDefinedTemplates(configurationFile))
+                    .toClientOptInput()
+                : configurator.toClientOptInput();
             final CodegenConfig config = input.getConfig();
 
-            if (configOptions != null) {
-                for (CliOption langCliOption : config.cliOptions()) {
-                    if (configOptions.containsKey(langCliOption.getOpt())) {
-                        input.getConfig().additionalProperties()
-                            .put(langCliOption.getOpt(), configOptions.get(langCliOption.getOpt()));
-                    }
-                }
-            }
+            applyConfigOptions(config, configOptions);
 
             if (configHelp) {
                 for (CliOption langCliOption : config.cliOptions()) {
@@ -924,15 +958,35 @@ public class GenerateMojo extends InputMavenArtifactMojo {
             }
 
 
-            new DefaultGenerator().opts(input).generate();
+            // Copy the spec for each target before any generator modifies it
+            List<Generation> generations = new ArrayList<>();
+            generations.add(new Generation(output, configOptions, input));
+            if (context != null) {
+                for (GenerateTarget target : targets) {
+                    generations.add(new Generation(target.getOutput(), targetConfigOptions(target),
+                        targetInput(context, input, target)));
+                }
+            }
+
+            List<GeneratedFiles> generated = ParallelRunner.run(generations, targetThreads, "generate into",
+                "outputs", this::generate);
 
             if (buildContext != null) {
-                buildContext.refresh(new File(getCompileSourceRoot()));
+                for (int i = 0; i < generations.size(); i++) {
+                    GeneratedFiles generatedFiles = generated.get(i);
+                    if (minimalUpdate) {
+                        generatedFiles.getWritten().forEach(buildContext::refresh);
+                        generatedFiles.getRemoved().forEach(buildContext::refresh);
+                    } else {
+                        Generation generation = generations.get(i);
+                        buildContext.refresh(
+                            new File(getCompileSourceRoot(generation.getOutput(), generation.getConfigOptions())));
+                    }
+                }
             }
 
             // Store a checksum of the input spec
             File storedInputSpecHashFile = getHashFile(inputSpecFile);
-            String inputSpecHash = calculateInputSpecHash(inputSpecFile);
 
             if (storedInputSpecHashFile.getParent() != null && !new File(storedInputSpecHashFile.getParent()).exists()) {
                 File parent = new File(storedInputSpecHashFile.getParent());
@@ -953,23 +1007,257 @@ public class GenerateMojo extends InputMavenArtifactMojo {
         }
     }
 
+    private static String boatGeneratorName(String generatorName) {
+        switch (generatorName) {
+            case "java":
+            case "spring":
+                return "boat-" + generatorName;
+
+            case "html2":
+                return "boat-docs";
+            case "boat-swift5":
+                return "boat-swift5";
+            default:
+                // use the original generator
+                return generatorName;
+        }
+    }
+
+    private boolean hasTargets() {
+        return targets != null && targets.length > 0;
+    }
+
+    /**
+     * Checks that every target is complete and writes to its own output, as generators that share a directory would
+     * overwrite each other's files or remove them as stale.
+     *
+     * @throws MojoExecutionException when a target is incomplete or its output overlaps with another one
+     */
+    private void checkTargets() throws MojoExecutionException {
+        if (!hasTargets()) {
+            return;
+        }
+        List<Path> outputs = new ArrayList<>();
+        outputs.add(output.toPath().toAbsolutePath().normalize());
+        for (GenerateTarget target : targets) {
+            if (StringUtils.isEmpty(target.getGeneratorName()) || target.getOutput() == null) {
+                throw new MojoExecutionException("A target requires both 'generatorName' and 'output'");
+            }
+            Path targetOutput = target.getOutput().toPath().toAbsolutePath().normalize();
+            for (Path other : outputs) {
+                if (targetOutput.startsWith(other) || other.startsWith(targetOutput)) {
+                    throw new MojoExecutionException(
+                        format("The output %s of a target overlaps with the output %s", targetOutput, other));
+                }
+            }
+            outputs.add(targetOutput);
+        }
+    }
+
+    private static void applyConfigOptions(CodegenConfig config, Map<?, ?> options) {
+        if (options == null) {
+            return;
+        }
+        for (CliOption langCliOption : config.cliOptions()) {
+            if (options.containsKey(langCliOption.getOpt())) {
+                config.additionalProperties()
+                    .put(langCliOption.getOpt(), options.get(langCliOption.getOpt()));
+            }
+        }
+    }
+
+    private Map<?, ?> targetConfigOptions(GenerateTarget target) {
+        Map<Object, Object> options = new HashMap<>();
+        if (configOptions != null) {
+            options.putAll(configOptions);
+        }
+        if (target.getConfigOptions() != null) {
+            options.putAll(target.getConfigOptions());
+        }
+        return options;
+    }
+
+    /**
+     * Configures the generator of a target like this execution, without parsing the spec again.
+     *
+     * @param context the settings and the spec of this execution
+     * @param input   the input of this execution, with the parsed and transformed spec
+     * @param target  the target to configure
+     * @return the input of the generator, with its own copy of the spec
+     * @throws MojoExecutionException when the target is incomplete
+     */
+    private ClientOptInput targetInput(Context<?> context, ClientOptInput input, GenerateTarget target)
+        throws MojoExecutionException {
+        String targetGeneratorName = boatGeneratorName(target.getGeneratorName());
+
+        GeneratorSettings.Builder generatorSettings = GeneratorSettings.newBuilder(context.getGeneratorSettings())
+            .withGeneratorName(targetGeneratorName)
+            .withLibrary(target.getLibrary());
+        if (isNotEmpty(target.getApiPackage())) {
+            generatorSettings.withApiPackage(target.getApiPackage());
+        }
+        if (isNotEmpty(target.getModelPackage())) {
+            generatorSettings.withModelPackage(target.getModelPackage());
+        }
+        if (isNotEmpty(target.getInvokerPackage())) {
+            generatorSettings.withInvokerPackage(target.getInvokerPackage());
+        }
+
+        WorkflowSettings.Builder workflowSettings = WorkflowSettings.newBuilder(context.getWorkflowSettings())
+            .withOutputDir(target.getOutput().getAbsolutePath())
+            .withTemplatingEngineName(isNotEmpty(engine)
+                ? engine
+                : CodegenConfigLoader.forName(targetGeneratorName).defaultTemplatingEngine());
+        if (target.getTemplateDirectory() != null) {
+            workflowSettings.withTemplateDir(target.getTemplateDirectory().getAbsolutePath());
+        }
+
+        ClientOptInput targetInput = new ParsedSpecConfigurator(new Context<>(OpenAPICache.copy(input.getOpenAPI()),
+            generatorSettings.build(), workflowSettings.build()), input.getUserDefinedTemplates()).toClientOptInput();
+        CodegenConfig targetConfig = targetInput.getConfig();
+        if (target.getTemplateDirectory() == null) {
+            // The template directory of this execution belongs to its own generator
+            targetConfig.additionalProperties().remove(CodegenConstants.TEMPLATE_DIR);
+        }
+        applyConfigOptions(targetConfig, targetConfigOptions(target));
+        adjustAdditionalProperties(targetConfig);
+        return targetInput;
+    }
+
+    private GeneratedFiles generate(Generation generation) throws IOException {
+        GeneratedFiles generatedFiles = GeneratedFiles.before(generation.getOutput(),
+            StringUtils.defaultIfEmpty(executionId, "default"));
+        generatedFiles.after(new DefaultGenerator().opts(generation.getInput()).generate(),
+            minimalUpdate && !Boolean.TRUE.equals(skipOverwrite));
+        getLog().info(format("Generated files in %s: %s", generation.getOutput(), generatedFiles));
+        return generatedFiles;
+    }
+
     protected Collection<String> getGeneratorSpecificSupportingFiles() {
         return Collections.emptySet();
     }
 
     /**
-     * Calculate openapi specification file hash. If specification is hosted on remote resource it is downloaded first
+     * Calculate the hash of the openapi specification, all local files it references and the generator configuration.
      *
      * @param inputSpecFile - Openapi specification input file to calculate its hash.
      *                      Does not take into account if input spec is hosted on remote resource
+     * @return combined hash of the input spec and the generator configuration
+     * @throws IOException When cannot read the file
+     */
+    private String calculateInputSpecHash(File inputSpecFile) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher()
+            .putString(calculateSpecHash(inputSpecFile), StandardCharsets.UTF_8)
+            .putString(generatorConfiguration().toString(), StandardCharsets.UTF_8);
+
+        for (String file : new String[]{configurationFile, ignoreFileOverride}) {
+            if (file != null && new File(file).isFile()) {
+                hasher.putBytes(Files.toByteArray(new File(file)));
+            }
+        }
+
+        if (templateDirectory != null && templateDirectory.isDirectory()) {
+            Path templateRoot = templateDirectory.toPath();
+            try (Stream<Path> templates = java.nio.file.Files.walk(templateRoot)) {
+                for (Path template : templates.filter(java.nio.file.Files::isRegularFile).sorted()
+                    .collect(Collectors.toList())) {
+                    hasher.putString(templateRoot.relativize(template).toString(), StandardCharsets.UTF_8)
+                        .putBytes(java.nio.file.Files.readAllBytes(template));
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * The configuration that determines the generated code, sorted by name.
+     */
+    private Map<String, Object> generatorConfiguration() {
+        Map<String, Object> configuration = new TreeMap<>();
+        configuration.put("pluginVersion", pluginVersion);
+        configuration.put("generatorName", generatorName);
+        configuration.put("language", language);
+        configuration.put("library", library);
+        configuration.put("engine", engine);
+        configuration.put("apiPackage", apiPackage);
+        configuration.put("modelPackage", modelPackage);
+        configuration.put("invokerPackage", invokerPackage);
+        configuration.put("packageName", packageName);
+        configuration.put("groupId", groupId);
+        configuration.put("artifactId", artifactId);
+        configuration.put("artifactVersion", artifactVersion);
+        configuration.put("gitHost", gitHost);
+        configuration.put("gitUserId", gitUserId);
+        configuration.put("gitRepoId", gitRepoId);
+        configuration.put("httpUserAgent", httpUserAgent);
+        configuration.put("apiNameSuffix", apiNameSuffix);
+        configuration.put("modelNamePrefix", modelNamePrefix);
+        configuration.put("modelNameSuffix", modelNameSuffix);
+        configuration.put("skipOverwrite", skipOverwrite);
+        configuration.put("removeOperationIdPrefix", removeOperationIdPrefix);
+        configuration.put("enablePostProcessFile", enablePostProcessFile);
+        configuration.put("skipValidateSpec", skipValidateSpec);
+        configuration.put("strictSpec", strictSpec);
+        configuration.put("generateAliasAsModel", generateAliasAsModel);
+        configuration.put("configOptions", sorted(configOptions));
+        configuration.put("instantiationTypes", instantiationTypes);
+        configuration.put("importMappings", importMappings);
+        configuration.put("typeMappings", typeMappings);
+        configuration.put("languageSpecificPrimitives", languageSpecificPrimitives);
+        configuration.put("additionalProperties", additionalProperties);
+        configuration.put("serverVariableOverrides", serverVariableOverrides);
+        configuration.put("reservedWordsMappings", reservedWordsMappings);
+        configuration.put("schemaMappings", schemaMappings);
+        configuration.put("openapiNormalizer", openapiNormalizer);
+        configuration.put("environmentVariables", environmentVariables == null ? null : new TreeMap<>(environmentVariables));
+        configuration.put("generateApis", generateApis);
+        configuration.put("apisToGenerate", apisToGenerate);
+        configuration.put("generateModels", generateModels);
+        configuration.put("modelsToGenerate", modelsToGenerate);
+        configuration.put("generateSupportingFiles", generateSupportingFiles);
+        configuration.put("supportingFilesToGenerate", supportingFilesToGenerate);
+        configuration.put("generatorSpecificSupportingFiles", uniqueJoin(getGeneratorSpecificSupportingFiles()));
+        configuration.put("targets", targets == null ? null : stream(targets)
+            .map(target -> Arrays.asList(target.getGeneratorName(), target.getOutput(), target.getApiPackage(),
+                target.getModelPackage(), target.getInvokerPackage(), target.getLibrary(),
+                target.getTemplateDirectory() == null ? null : target.getTemplateDirectory().getAbsolutePath(),
+                sorted(target.getConfigOptions())))
+            .collect(Collectors.toList()));
+        configuration.put("generateModelTests", generateModelTests);
+        configuration.put("generateModelDocumentation", generateModelDocumentation);
+        configuration.put("generateApiTests", generateApiTests);
+        configuration.put("generateApiDocumentation", generateApiDocumentation);
+        configuration.put("withXml", withXml);
+        configuration.put("unAlias", unAlias);
+        configuration.put("dereferenceComponents", dereferenceComponents);
+        configuration.put("bundleSpecs", bundleSpecs);
+        configuration.put("templateDirectory", templateDirectory == null ? null : templateDirectory.getAbsolutePath());
+        return configuration;
+    }
+
+    private static Map<String, String> sorted(Map<?, ?> options) {
+        return options == null ? null : options.entrySet().stream()
+            .collect(Collectors.toMap(e -> String.valueOf(e.getKey()), e -> String.valueOf(e.getValue()),
+                (first, second) -> second, TreeMap::new));
+    }
+
+    /**
+     * Calculate openapi specification file hash. If specification is hosted on remote resource it is downloaded first.
+     * A local specification is hashed together with all local files it references.
+     *
+     * @param inputSpecFile - Openapi specification input file to calculate its hash.
      * @return openapi specification file hash
      * @throws IOException When cannot read the file
      */
     @SuppressWarnings({"java:S2095", "java:S4790", "java:S5361"})
-    private String calculateInputSpecHash(File inputSpecFile) throws IOException {
+    private String calculateSpecHash(File inputSpecFile) throws IOException {
 
         URL inputSpecRemoteUrl = inputSpecRemoteUrl();
 
+        if (inputSpecRemoteUrl == null && inputSpecFile.isFile()) {
+            return OpenAPIFiles.sha256(inputSpecFile.toPath());
+        }
+
         File inputSpecTempFile = inputSpecFile;
 
         if (inputSpecRemoteUrl != null) {
@@ -1036,6 +1324,10 @@ public class GenerateMojo extends InputMavenArtifactMojo {
     }
 
     private String getCompileSourceRoot() {
+        return getCompileSourceRoot(output, configOptions);
+    }
+
+    private String getCompileSourceRoot(File output, Map<?, ?> configOptions) {
         final Object sourceFolderObject =
             configOptions == null ? null : configOptions
                 .get(CodegenConstants.SOURCE_FOLDER);
@@ -1050,10 +1342,21 @@ public class GenerateMojo extends InputMavenArtifactMojo {
     }
 
     private void addCompileSourceRootIfConfigured() {
-        if (addTestCompileSourceRoot) {
-            project.addTestCompileSourceRoot(getCompileSourceRoot());
-        } else if (addCompileSourceRoot) {
-            project.addCompileSourceRoot(getCompileSourceRoot());
+        List<String> sourceRoots = new ArrayList<>();
+        sourceRoots.add(getCompileSourceRoot());
+        if (hasTargets()) {
+            for (GenerateTarget target : targets) {
+                if (target.getOutput() != null) {
+                    sourceRoots.add(getCompileSourceRoot(target.getOutput(), targetConfigOptions(target)));
+                }
+            }
+        }
+        for (String sourceRoot : sourceRoots) {
+            if (addTestCompileSourceRoot) {
+                project.addTestCompileSourceRoot(sourceRoot);
+            } else if (addCompileSourceRoot) {
+                project.addCompileSourceRoot(sourceRoot);
+            }
         }
 
         // Reset all environment variables to their original value. This prevents unexpected
@@ -1104,4 +1407,19 @@ public class GenerateMojo extends InputMavenArtifactMojo {
         }
     }
 
+    /**
+     * A generator run with its output.
+     */
+    @Value
+    private static class Generation {
+        File output;
+        Map<?, ?> configOptions;
+        ClientOptInput input;
+
+        @Override
+        public String toString() {
+            return output.toString();
+        }
+    }
+
 }
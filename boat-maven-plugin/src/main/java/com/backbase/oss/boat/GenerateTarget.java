@@ -0,0 +1,56 @@
+package com.backbase.oss.boat;
+
+import java.io.File;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * An additional generator that runs on the spec parsed and transformed by a {@code generate} execution.
+ *
+ * <p>Settings that are not set here are taken from the execution, except the library and the template directory,
+ * which belong to a specific generator.</p>
+ */
+@Data
+public class GenerateTarget {
+
+    /**
+     * The name of the generator to use, like {@code boat-spring}, {@code boat-java} or {@code boat-angular}.
+     */
+    private String generatorName;
+
+    /**
+     * Location of the output directory of this generator.
+     */
+    private File output;
+
+    /**
+     * The package to use for generated api objects/classes.
+     */
+    private String apiPackage;
+
+    /**
+     * The package to use for generated model objects/classes.
+     */
+    private String modelPackage;
+
+    /**
+     * The package to use for the generated invoker objects.
+     */
+    private String invokerPackage;
+
+    /**
+     * The library template (sub-template) of this generator.
+     */
+    private String library;
+
+    /**
+     * The directory containing the templates of this generator.
+     */
+    private File templateDirectory;
+
+    /**
+     * Config options of this generator, added to the config options of the execution.
+     */
+    private Map<?, ?> configOptions;
+
+}
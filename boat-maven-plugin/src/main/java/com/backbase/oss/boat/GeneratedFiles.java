@@ -0,0 +1,127 @@
+package com.backbase.oss.boat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
+
+/**
+ * Tracks the files of a generator run in its output directory: which files were written, which were left unchanged
+ * and which were generated by the previous run of the same execution, but not by this one.
+ *
+ * <p>Each execution records the files it generated in {@code .openapi-generator/<execution>.files}. The
+ * {@code .openapi-generator/FILES} metadata of the generator is not used, because every execution that writes to the
+ * same output directory replaces it.</p>
+ */
+@Slf4j
+@Getter
+class GeneratedFiles {
+
+    private static final String METADATA = ".openapi-generator";
+    private static final String IGNORE_FILE = ".openapi-generator-ignore";
+    private static final String EXTENSION = ".files";
+
+    private final List<File> written = new ArrayList<>();
+    private final List<File> unchanged = new ArrayList<>();
+    private final List<File> removed = new ArrayList<>();
+
+    private final Path output;
+    private final Path record;
+    private final Map<Path, FileTime> previous = new HashMap<>();
+
+    private GeneratedFiles(Path output, String execution) {
+        this.output = output;
+        this.record = output.resolve(METADATA).resolve(execution.replaceAll("[^\\w.-]", "_") + EXTENSION);
+    }
+
+    /**
+     * Records the files of the previous run of an execution, before the generator runs again.
+     *
+     * @param output    the output directory of the generator
+     * @param execution the id of the execution, which tells apart executions that share the output directory
+     * @return the files of the previous run
+     * @throws IOException when the record of the previous run cannot be read
+     */
+    static GeneratedFiles before(File output, String execution) throws IOException {
+        GeneratedFiles files = new GeneratedFiles(output.toPath().toAbsolutePath().normalize(), execution);
+        if (!Files.isRegularFile(files.record)) {
+            return files;
+        }
+        for (String line : Files.readAllLines(files.record, StandardCharsets.UTF_8)) {
+            if (StringUtils.isBlank(line)) {
+                continue;
+            }
+            Path file = files.output.resolve(line.trim()).normalize();
+            if (files.isGenerated(file) && Files.isRegularFile(file)) {
+                files.previous.put(file, Files.getLastModifiedTime(file));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Sorts the files of this run into written and unchanged files, and optionally removes the files that are no
+     * longer generated and records the files of this run for the next one. The generator metadata and files excluded
+     * by the {@code .openapi-generator-ignore} file are never removed.
+     *
+     * @param generated   the files returned by the generator
+     * @param removeStale whether to delete the files of the previous run that were not generated again
+     * @throws IOException when a stale file cannot be deleted or the record cannot be written
+     */
+    void after(List<File> generated, boolean removeStale) throws IOException {
+        Set<Path> current = new LinkedHashSet<>();
+        for (File file : generated) {
+            Path path = file.toPath().toAbsolutePath().normalize();
+            if (!isGenerated(path) || !current.add(path)) {
+                continue;
+            }
+            FileTime lastModified = previous.get(path);
+            if (lastModified != null && Files.exists(path) && lastModified.equals(Files.getLastModifiedTime(path))) {
+                unchanged.add(file);
+            } else {
+                written.add(file);
+            }
+        }
+        if (!removeStale) {
+            return;
+        }
+        CodegenIgnoreProcessor ignoreProcessor = new CodegenIgnoreProcessor(output.toFile());
+        for (Path path : previous.keySet()) {
+            if (!current.contains(path) && ignoreProcessor.allowsFile(path.toFile()) && Files.deleteIfExists(path)) {
+                log.debug("Removed file that is no longer generated: {}", path);
+                removed.add(path.toFile());
+            }
+        }
+        Files.createDirectories(record.getParent());
+        Files.write(record, current.stream()
+            .map(path -> output.relativize(path).toString().replace(File.separatorChar, '/'))
+            .sorted()
+            .collect(Collectors.toList()), StandardCharsets.UTF_8);
+    }
+
+    // The metadata and the ignore file are written once and kept by the generator
+    private boolean isGenerated(Path file) {
+        return file.startsWith(output)
+            && !file.startsWith(output.resolve(METADATA))
+            && !file.equals(output.resolve(IGNORE_FILE));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d written, %d unchanged, %d removed", written.size(), unchanged.size(),
+            removed.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.backbase.oss.boat;
+
+import com.backbase.oss.boat.loader.OpenAPICache;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Shares one {@link OpenAPICache} between all executions of the plugin in a Maven session.
+ *
+ * <p>Parsed specs are also kept across builds when the {@code boat.cache.directory} property is set, for instance to
+ * {@code ~/.boat/cache}. The size of the specs kept in memory and of that directory are each bounded by
+ * {@code boat.cache.maxSize} in megabytes.</p>
+ */
+public class OpenAPISessionCache {
+
+    private static final String DIRECTORY_PROPERTY = "boat.cache.directory";
+    private static final String MAX_SIZE_PROPERTY = "boat.cache.maxSize";
+    private static final long DEFAULT_MAX_SIZE = 256;
+
+    private static final String KEY = OpenAPICache.class.getName();
+
+    private OpenAPISessionCache() {
+        throw new AssertionError("Private constructor");
+    }
+
+    /**
+     * Returns the cache of the session, or a new cache when there is no session to keep it in.
+     *
+     * @param session the current Maven session, may be {@code null}
+     * @return the parsed spec cache
+     */
+    public static OpenAPICache get(MavenSession session) {
+        if (session == null || session.getRepositorySession() == null) {
+            return new OpenAPICache();
+        }
+        Object cache = session.getRepositorySession().getData().computeIfAbsent(KEY, () -> create(session));
+        // Another version of the plugin may have registered its own class
+        return cache instanceof OpenAPICache ? (OpenAPICache) cache : create(session);
+    }
+
+    private static OpenAPICache create(MavenSession session) {
+        String maxSize = property(session, MAX_SIZE_PROPERTY);
+        long maxBytes = (StringUtils.isNumeric(maxSize) ? Long.parseLong(maxSize) : DEFAULT_MAX_SIZE) * 1024 * 1024;
+        String directory = property(session, DIRECTORY_PROPERTY);
+        if (StringUtils.isBlank(directory)) {
+            return new OpenAPICache(null, maxBytes);
+        }
+        Path path = directory.startsWith("~")
+            ? Paths.get(System.getProperty("user.home"), directory.substring(1))
+            : Paths.get(directory);
+        return new OpenAPICache(path, maxBytes);
+    }
+
+    private static String property(MavenSession session, String name) {
+        Properties user = session.getUserProperties();
+        if (user != null && user.getProperty(name) != null) {
+            return user.getProperty(name);
+        }
+        Properties system = session.getSystemProperties();
+        return system != null ? system.getProperty(name) : null;
+    }
+}
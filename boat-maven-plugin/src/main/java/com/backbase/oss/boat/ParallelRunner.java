@@ -0,0 +1,98 @@
+package com.backbase.oss.boat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.plugin.MojoExecutionException;
+
+/**
+ * Runs a task for each input of a goal on a fixed number of threads, and reports the failures of all inputs together.
+ */
+@Slf4j
+public final class ParallelRunner {
+
+    /**
+     * The work done for one input.
+     *
+     * @param <T> the type of the inputs
+     * @param <R> the type of the results
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R run(T input) throws Exception;
+    }
+
+    private ParallelRunner() {
+        throw new AssertionError("Private constructor");
+    }
+
+    /**
+     * Runs a task for each input, at most {@code threads} of them at the same time. Every input is handled, also when
+     * the task fails for another one.
+     *
+     * @param inputs  the inputs
+     * @param threads the maximum number of tasks running at the same time, one at a time when less than 1
+     * @param action  what the task does with an input, for instance {@code "bundle"}, used in the messages
+     * @param noun    what the inputs are, for instance {@code "specs"}, used in the messages
+     * @param task    the task
+     * @param <T>     the type of the inputs
+     * @param <R>     the type of the results
+     * @return the results, in the order of the inputs
+     * @throws MojoExecutionException when the task failed for an input: with a single input the failure itself,
+     *                                otherwise one exception caused by the first failure with the others suppressed
+     */
+    public static <T, R> List<R> run(List<T> inputs, int threads, String action, String noun, Task<T, R> task)
+        throws MojoExecutionException {
+        int poolSize = Math.max(1, Math.min(threads, inputs.size()));
+        if (poolSize > 1) {
+            log.info("Using {} threads for {} {}.", poolSize, inputs.size(), noun);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<R>> futures = new ArrayList<>();
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> task.run(input)));
+            }
+            List<R> results = new ArrayList<>();
+            List<MojoExecutionException> failures = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause() instanceof MojoExecutionException
+                        ? (MojoExecutionException) e.getCause()
+                        : new MojoExecutionException("Failed to " + action + ": " + inputs.get(i), e.getCause()));
+                }
+            }
+            reportFailures(inputs.size(), action, noun, failures);
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while trying to " + action + " " + inputs.size() + " "
+                + noun, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void reportFailures(int total, String action, String noun,
+        List<MojoExecutionException> failures) throws MojoExecutionException {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (total == 1) {
+            throw failures.get(0);
+        }
+        failures.forEach(failure -> log.error(failure.getMessage(), failure.getCause()));
+
+        MojoExecutionException exception = new MojoExecutionException(
+            String.format("Failed to %s %d of %d %s", action, failures.size(), total, noun), failures.get(0));
+        failures.stream().skip(1).forEach(exception::addSuppressed);
+        throw exception;
+    }
+}
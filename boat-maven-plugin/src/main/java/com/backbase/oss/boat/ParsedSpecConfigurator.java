@@ -0,0 +1,61 @@
+package com.backbase.oss.boat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.api.TemplateDefinition;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.config.Context;
+import org.openapitools.codegen.config.DynamicSettings;
+
+/**
+ * Configures a generator from settings and a spec that were already parsed, so the spec is not read again.
+ */
+class ParsedSpecConfigurator extends CodegenConfigurator {
+
+    private final Context<?> context;
+    private final List<TemplateDefinition> userDefinedTemplates;
+
+    ParsedSpecConfigurator(Context<?> context, List<TemplateDefinition> userDefinedTemplates) {
+        this.context = context;
+        this.userDefinedTemplates = userDefinedTemplates;
+    }
+
+    @Override
+    public Context<?> toContext() {
+        return context;
+    }
+
+    @Override
+    public ClientOptInput toClientOptInput() {
+        return super.toClientOptInput().userDefinedTemplates(userDefinedTemplates);
+    }
+
+    /**
+     * Reads the {@code files} of a configuration file, like {@link CodegenConfigurator#fromFile(String,
+     * com.fasterxml.jackson.databind.Module...)} does, which offers no way to get them back.
+     *
+     * @param configurationFile the configuration file, may be empty
+     * @return the user defined templates of the file
+     * @throws IOException when the configuration file cannot be read
+     */
+    static List<TemplateDefinition> userDefinedTemplates(String configurationFile) throws IOException {
+        if (StringUtils.isEmpty(configurationFile) || !new File(configurationFile).isFile()) {
+            return Collections.emptyList();
+        }
+        ObjectMapper mapper = FilenameUtils.isExtension(configurationFile.toLowerCase(Locale.ROOT), "yml", "yaml")
+            ? Yaml.mapper().copy()
+            : Json.mapper().copy();
+        mapper.registerModule(new GuavaModule());
+        return mapper.readValue(new File(configurationFile), DynamicSettings.class).getFiles();
+    }
+}
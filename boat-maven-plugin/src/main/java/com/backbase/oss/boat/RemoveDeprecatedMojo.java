@@ -1,16 +1,13 @@
 package com.backbase.oss.boat;
 
-import com.backbase.oss.boat.loader.OpenAPILoader;
 import com.backbase.oss.boat.loader.OpenAPILoaderException;
 import com.backbase.oss.boat.serializer.SerializerUtils;
 import com.backbase.oss.boat.transformers.Deprecator;
 import io.swagger.v3.oas.models.OpenAPI;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -31,6 +28,9 @@ public class RemoveDeprecatedMojo extends AbstractMojo {
     @Parameter(name = "output", required = true)
     private File output;
 
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
     public void setInput(File input) {
         this.input = input;
     }
@@ -45,9 +45,9 @@ public class RemoveDeprecatedMojo extends AbstractMojo {
 
         OpenAPI openAPI = null;
         try {
-            openAPI = OpenAPILoader.load(input);
+            openAPI = OpenAPISessionCache.get(session).load(input, false, false);
             new Deprecator().transform(openAPI, null);
-            Files.write(output.toPath(), SerializerUtils.toYamlString(openAPI).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
+            SerializerUtils.writeYaml(openAPI, output.toPath());
         } catch (OpenAPILoaderException | IOException e) {
             throw new MojoExecutionException("Error transforming OpenAPI: {}" + input, e);
         }
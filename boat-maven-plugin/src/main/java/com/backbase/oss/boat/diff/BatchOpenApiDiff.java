@@ -1,13 +1,15 @@
 package com.backbase.oss.boat.diff;
 
 import com.backbase.oss.boat.DiffMojo;
-import com.backbase.oss.boat.serializer.SerializerUtils;
+import com.backbase.oss.boat.loader.OpenAPIFiles;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import lombok.experimental.UtilityClass;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.openapitools.openapidiff.core.compare.OpenApiDiff;
@@ -17,16 +19,26 @@ import org.openapitools.openapidiff.core.output.MarkdownRender;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @UtilityClass
 public class BatchOpenApiDiff {
@@ -35,91 +47,226 @@ public class BatchOpenApiDiff {
     private static final String X_CHANGELOG = "x-changelog";
     private static final MarkdownRender markdownRender = new MarkdownRender();
 
-    @SuppressWarnings("squid:S2095")
     public static void diff(Path outputDirectory, Map<File, OpenAPI> success, Map<String, String> failed,
         boolean insertIntoSpec, boolean writeChangeLogToSeparateFile) throws IOException {
+        diff(outputDirectory, success, failed, insertIntoSpec, writeChangeLogToSeparateFile,
+            Runtime.getRuntime().availableProcessors(), null);
+    }
 
-        List<Pair<Path, OpenAPI>> sortedSpecs = Files.walk(outputDirectory)
-            .filter(Files::isRegularFile)
-            .filter(BatchOpenApiDiff::isOpenApiSpec)
-            .map(BatchOpenApiDiff::parseFileToParseResult)
-            .filter(BatchOpenApiDiff::isValidOpenApiSpec)
-            .map(BatchOpenApiDiff::mapToOpenAPIPair)
-            .sorted(BatchOpenApiDiff::sortVersions)
-            .collect(Collectors.toList());
+    /**
+     * Diffs each version of the specs in a directory with the previous one and adds the cumulative changelog to it.
+     *
+     * <p>The specs are parsed once and concurrently. The consecutive versions are compared in parallel, while the
+     * changelogs are still assembled in version order. With a cache, only the pairs that were not diffed by an earlier
+     * build are compared.</p>
+     *
+     * @param outputDirectory              the directory with the specs to diff
+     * @param success                      receives the diffed specs, with the rendered changelog of each version up to
+     *                                     them in {@code x-changelog}
+     * @param failed                       receives the specs that could not be diffed with the error
+     * @param insertIntoSpec               whether to append the changelog to the description of the spec files
+     * @param writeChangeLogToSeparateFile whether to write the changelog to a {@code changelog.md} next to the specs
+     * @param threads                      the number of specs to parse or compare at the same time
+     * @param cache                        the changelogs of pairs diffed by earlier builds, {@code null} to diff all
+     *                                     pairs
+     * @throws IOException when the directory cannot be read or a changelog cannot be written
+     */
+    public static void diff(Path outputDirectory, Map<File, OpenAPI> success, Map<String, String> failed,
+        boolean insertIntoSpec, boolean writeChangeLogToSeparateFile, int threads, DiffCache cache)
+        throws IOException {
 
-        OpenApiDiffOptions diffOptions = OpenApiDiffOptions.builder().build();
-        for (int i = 1; i < sortedSpecs.size(); i++) {
-            Pair<Path,OpenAPI> oldVersionPair = sortedSpecs.get(i-1);
-            Pair<Path,OpenAPI> newVersionPair = sortedSpecs.get(i);
-
-            OpenAPI oldOpenAPI = oldVersionPair.getValue();
-            OpenAPI newOpenAPI = newVersionPair.getValue();
-            Path newOpenAPIPath = newVersionPair.getKey();
-
-            try {
-                ChangedOpenApi compare = OpenApiDiff.compare(oldOpenAPI, newOpenAPI, diffOptions);
-                List<ChangedOpenApi> changeLog = getChangeLog(oldOpenAPI);
-                changeLog.add(compare);
-                String changelogMarkdown = renderChangeLog(changeLog);
-                if (insertIntoSpec) {
-                    writeChangelogInOpenAPI(newOpenAPIPath, changelogMarkdown);
-                }
-                if (writeChangeLogToSeparateFile) {
-                    Path changeLogFile = newOpenAPIPath.getParent().resolve("changelog.md");
-                    Files.write(changeLogFile, changelogMarkdown.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
-                }
-                newOpenAPI.addExtension(X_CHANGELOG, changeLog);
-                success.put(newOpenAPIPath.toFile(), newOpenAPI);
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(outputDirectory)) {
+            files = walk.filter(Files::isRegularFile)
+                .filter(BatchOpenApiDiff::isOpenApiSpec)
+                .collect(Collectors.toList());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, files.size())));
+        try {
+            OpenApiDiffOptions diffOptions = OpenApiDiffOptions.builder().build();
+            List<Version> sortedSpecs = parseAll(files, insertIntoSpec, cache != null, executor);
+            List<String> cached = new ArrayList<>();
+            for (int i = 1; i < sortedSpecs.size(); i++) {
+                cached.add(cached(cache, sortedSpecs.get(i - 1), sortedSpecs.get(i), diffOptions));
+            }
+            if (cache != null) {
+                log.info("Reusing {} of {} cached changelogs", cached.stream().filter(Objects::nonNull).count(),
+                    cached.size());
+            }
+            List<CompletableFuture<ChangedOpenApi>> compares = compareAll(sortedSpecs, cached, diffOptions, executor);
+
+            for (int i = 1; i < sortedSpecs.size(); i++) {
+                OpenAPI oldOpenAPI = sortedSpecs.get(i - 1).openAPI;
+                Version newVersion = sortedSpecs.get(i);
+                OpenAPI newOpenAPI = newVersion.openAPI;
+                Path newOpenAPIPath = newVersion.path;
+
+                try {
+                    String diffReport = cached.get(i - 1);
+                    if (diffReport == null) {
+                        diffReport = generateDiffReport(join(compares.get(i - 1)));
+                        if (cache != null && sortedSpecs.get(i - 1).hash != null && newVersion.hash != null) {
+                            cache.put(sortedSpecs.get(i - 1).hash, newVersion.hash, diffOptions, diffReport);
+                        }
+                    }
+                    List<String> changeLog = getChangeLog(oldOpenAPI);
+                    changeLog.add(diffReport);
+                    String changelogMarkdown = renderChangeLog(changeLog);
+                    if (insertIntoSpec) {
+                        writeChangelogInOpenAPI(newVersion, changelogMarkdown);
+                    }
+                    if (writeChangeLogToSeparateFile) {
+                        Path changeLogFile = newOpenAPIPath.getParent().resolve("changelog.md");
+                        Files.write(changeLogFile, changelogMarkdown.getBytes(StandardCharsets.UTF_8));
+                    }
+                    newOpenAPI.addExtension(X_CHANGELOG, changeLog);
+                    success.put(newOpenAPIPath.toFile(), newOpenAPI);
 
-            log.debug("Including Changelog for: {} with version: {}", newOpenAPI.getInfo().getTitle(), newOpenAPI.getInfo().getVersion());
+                    log.debug("Including Changelog for: {} with version: {}", newOpenAPI.getInfo().getTitle(), newOpenAPI.getInfo().getVersion());
 
-            } catch (Exception e) {
-                failed.put(newOpenAPI.toString(), e.getMessage());
+                } catch (Exception e) {
+                    failed.put(newOpenAPI.toString(), e.getMessage());
+                }
             }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
-    private static int sortVersions(Pair<Path, OpenAPI> pair1, Pair<Path, OpenAPI> pair2) {
-        return compareVersions(pair1.getRight().getInfo().getVersion(),
-            pair2.getRight().getInfo().getVersion());
+    /**
+     * Parses all specs concurrently and returns the valid ones sorted by version.
+     */
+    private static List<Version> parseAll(List<Path> files, boolean keepSource, boolean hash,
+        ExecutorService executor) {
+        List<CompletableFuture<Version>> parsed = files.stream()
+            .map(path -> CompletableFuture.supplyAsync(() -> parse(path, keepSource, hash), executor))
+            .collect(Collectors.toList());
+
+        return parsed.stream()
+            .map(CompletableFuture::join)
+            .filter(version -> version.openAPI != null)
+            .sorted(Comparator.comparing(version -> new DefaultArtifactVersion(version.openAPI.getInfo().getVersion())))
+            .collect(Collectors.toList());
     }
 
-    private static Pair<Path, OpenAPI> mapToOpenAPIPair(Pair<Path, SwaggerParseResult> pair) {
-        return Pair.of(pair.getKey(), pair.getRight().getOpenAPI());
+    private static Version parse(Path path, boolean keepSource, boolean hash) {
+        SwaggerParseResult result = parseOpenAPI(path);
+        if (!result.getMessages().isEmpty()) {
+            return new Version(path, null, null, null);
+        }
+        OpenAPI openAPI = result.getOpenAPI();
+        // The diff modifies the models, so keep the spec as parsed for writing the changelog back
+        ObjectNode source = keepSource ? Yaml.mapper().valueToTree(openAPI) : null;
+        return new Version(path, openAPI, source, hash ? hash(path) : null);
     }
 
-    private static Pair<Path, SwaggerParseResult> parseFileToParseResult(Path path) {
-        SwaggerParseResult right = parseOpenAPI(path);
-        return Pair.of(path, right);
+    private static String hash(Path path) {
+        try {
+            return OpenAPIFiles.sha256(path);
+        } catch (IOException e) {
+            log.warn("Cannot cache changelogs of: {}", path, e);
+            return null;
+        }
     }
 
-    private static boolean isOpenApiSpec(Path path) {
-        return path.toString().endsWith(".yaml");
+    private static String cached(DiffCache cache, Version oldVersion, Version newVersion,
+        OpenApiDiffOptions diffOptions) {
+        if (cache == null || oldVersion.hash == null || newVersion.hash == null) {
+            return null;
+        }
+        return cache.get(oldVersion.hash, newVersion.hash, diffOptions);
+    }
+
+    /**
+     * Compares each version with the previous one. The diff moves the global security requirements of both specs
+     * into their operations, so comparisons sharing a spec run one after another: first all pairs starting at an
+     * even version, then those starting at an odd one. Pairs with a cached changelog are not compared.
+     */
+    private static List<CompletableFuture<ChangedOpenApi>> compareAll(List<Version> sortedSpecs, List<String> cached,
+        OpenApiDiffOptions diffOptions, ExecutorService executor) {
+        List<CompletableFuture<ChangedOpenApi>> compares = new ArrayList<>();
+        for (String changelog : cached) {
+            compares.add(changelog != null ? CompletableFuture.completedFuture(null) : null);
+        }
+        for (int i = 0; i < compares.size(); i += 2) {
+            if (compares.get(i) == null) {
+                compares.set(i, CompletableFuture.supplyAsync(compare(sortedSpecs, i, diffOptions), executor));
+            }
+        }
+        for (int i = 1; i < compares.size(); i += 2) {
+            if (compares.get(i) != null) {
+                continue;
+            }
+            CompletableFuture<?> before = compares.get(i - 1);
+            CompletableFuture<?> after = i + 1 < compares.size() ? compares.get(i + 1) : before;
+            Supplier<ChangedOpenApi> compare = compare(sortedSpecs, i, diffOptions);
+            compares.set(i, CompletableFuture.allOf(before, after)
+                .handle((result, e) -> null)
+                .thenApplyAsync(ignored -> compare.get(), executor));
+        }
+        return compares;
     }
 
-    private static boolean isValidOpenApiSpec(Pair<Path, SwaggerParseResult> pair) {
-        return pair.getRight().getMessages().isEmpty();
+    private static Supplier<ChangedOpenApi> compare(List<Version> sortedSpecs, int index,
+        OpenApiDiffOptions diffOptions) {
+        OpenAPI oldOpenAPI = sortedSpecs.get(index).openAPI;
+        OpenAPI newOpenAPI = sortedSpecs.get(index + 1).openAPI;
+        return () -> OpenApiDiff.compare(oldOpenAPI, newOpenAPI, diffOptions);
     }
 
-    private static void writeChangelogInOpenAPI(Path openApiFilePath, String changelogMarkdown) throws IOException {
-        OpenAPI diffedApi = parseOpenAPI(openApiFilePath).getOpenAPI();
-        if (diffedApi.getInfo().getDescription() == null) {
-            diffedApi.getInfo().setDescription(changelogMarkdown);
+    private static ChangedOpenApi join(CompletableFuture<ChangedOpenApi> compare) throws Exception {
+        try {
+            return compare.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    private static boolean isOpenApiSpec(Path path) {
+        return path.toString().endsWith(".yaml");
+    }
+
+    private static void writeChangelogInOpenAPI(Version version, String changelogMarkdown) throws IOException {
+        ObjectNode diffedApi = version.source.deepCopy();
+        ObjectNode info = (ObjectNode) diffedApi.get("info");
+        JsonNode description = info.get("description");
+        if (description == null) {
+            diffedApi.set("info", withDescription(info, changelogMarkdown));
         } else {
-            diffedApi.getInfo().setDescription(diffedApi.getInfo().getDescription() + "\n" + changelogMarkdown);
+            info.put("description", description.asText() + "\n" + changelogMarkdown);
         }
 
-        diffedApi.addExtension("x-compared", true);
+        diffedApi.put("x-compared", true);
         log.debug("Writing change log back into OpenAPI");
-        Files.write(openApiFilePath, SerializerUtils.toYamlString(diffedApi).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(version.path))) {
+            Yaml.pretty().writeValue(out, diffedApi);
+        }
+    }
+
+    /**
+     * Adds the description right after the title, where it is when the spec is written.
+     */
+    private static ObjectNode withDescription(ObjectNode info, String description) {
+        ObjectNode result = info.objectNode();
+        if (!info.has("title")) {
+            result.put("description", description);
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> fields = info.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            result.set(field.getKey(), field.getValue());
+            if (field.getKey().equals("title")) {
+                result.put("description", description);
+            }
+        }
+        return result;
     }
 
-    private static String renderChangeLog(List<ChangedOpenApi> changeLog) throws MojoExecutionException{
+    private static String renderChangeLog(List<String> changeLog) {
         StringBuilder markDown = new StringBuilder();
         markDown.append("# Changelog\n");
-        for (ChangedOpenApi changedOpenApi : changeLog) {
-            markDown.append(generateDiffReport(changedOpenApi));
+        for (String diffReport : changeLog) {
+            markDown.append(diffReport);
         }
         return markDown.toString();
     }
@@ -144,10 +291,10 @@ public class BatchOpenApiDiff {
     }
 
     @SuppressWarnings("unchecked")
-    private static List<ChangedOpenApi> getChangeLog(OpenAPI oldSpec) {
-        List<ChangedOpenApi> changeLog;
+    private static List<String> getChangeLog(OpenAPI oldSpec) {
+        List<String> changeLog;
         if (oldSpec.getExtensions() != null && oldSpec.getExtensions().containsKey(X_CHANGELOG)) {
-            changeLog = (List<ChangedOpenApi>) oldSpec.getExtensions().get(X_CHANGELOG);
+            changeLog = (List<String>) oldSpec.getExtensions().get(X_CHANGELOG);
         } else {
             changeLog = new ArrayList<>();
 
@@ -174,9 +321,21 @@ public class BatchOpenApiDiff {
         return swaggerParseResult;
     }
 
-    private static int compareVersions(String v1, String v2) {
-        DefaultArtifactVersion version1 = new DefaultArtifactVersion(v1);
-        DefaultArtifactVersion version2 = new DefaultArtifactVersion(v2);
-        return version1.compareTo(version2);
+    /**
+     * A parsed spec, with its contents as parsed when they are written back and its content hash when changelogs are
+     * cached.
+     */
+    private static class Version {
+        private final Path path;
+        private final OpenAPI openAPI;
+        private final ObjectNode source;
+        private final String hash;
+
+        Version(Path path, OpenAPI openAPI, ObjectNode source, String hash) {
+            this.path = path;
+            this.openAPI = openAPI;
+            this.source = source;
+            this.hash = hash;
+        }
     }
 }
@@ -0,0 +1,131 @@
+package com.backbase.oss.boat.diff;
+
+import com.backbase.oss.boat.loader.CacheDirectory;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openapitools.openapidiff.core.compare.OpenApiDiff;
+import org.openapitools.openapidiff.core.compare.OpenApiDiffOptions;
+
+/**
+ * Keeps the rendered changelog of each compared pair of specs in a directory, so later builds only diff the versions
+ * that were added or changed since.
+ *
+ * <p>Entries are keyed by the content hashes of both specs and the diff options. Old versions of a spec never change,
+ * so their entries stay valid across builds. The least recently used entries are removed when the directory grows
+ * beyond its maximum size.</p>
+ */
+@Slf4j
+public class DiffCache {
+
+    private static final String EXTENSION = ".md";
+
+    // Entries rendered by another version of the diff may differ
+    private static final String DIFF_VERSION = String.valueOf(OpenApiDiff.class.getPackage().getImplementationVersion());
+
+    private final Path directory;
+    private final long maxSize;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache that stores rendered changelogs in a directory without limiting its size.
+     *
+     * @param directory the cache directory, created when missing
+     */
+    public DiffCache(Path directory) {
+        this(directory, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a cache that stores rendered changelogs in a directory.
+     *
+     * @param directory the cache directory, created when missing
+     * @param maxSize   maximum size in bytes of the cache directory
+     */
+    public DiffCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the rendered changelog of two specs, if it was stored before.
+     *
+     * @param oldHash the content hash of the old spec
+     * @param newHash the content hash of the new spec
+     * @param options the diff options
+     * @return the rendered changelog, or {@code null} when the pair was not diffed before
+     */
+    public String get(String oldHash, String newHash, OpenApiDiffOptions options) {
+        Path stored = directory.resolve(fileName(oldHash, newHash, options));
+        if (Files.isRegularFile(stored)) {
+            try {
+                String changelog = new String(Files.readAllBytes(stored), StandardCharsets.UTF_8);
+                CacheDirectory.touch(stored);
+                hits.incrementAndGet();
+                log.debug("Reusing changelog from: {}", stored);
+                return changelog;
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable cache entry: {}", stored, e);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores the rendered changelog of two specs.
+     *
+     * @param oldHash   the content hash of the old spec
+     * @param newHash   the content hash of the new spec
+     * @param options   the diff options
+     * @param changelog the rendered changelog
+     */
+    public void put(String oldHash, String newHash, OpenApiDiffOptions options, String changelog) {
+        Path stored = directory.resolve(fileName(oldHash, newHash, options));
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "changelog", ".tmp");
+            Files.write(temp, changelog.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, stored, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, stored, StandardCopyOption.REPLACE_EXISTING);
+            }
+            CacheDirectory.evict(directory, EXTENSION, maxSize);
+        } catch (IOException e) {
+            log.warn("Cannot store changelog in: {}", directory, e);
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static String fileName(String oldHash, String newHash, OpenApiDiffOptions options) {
+        String key = DIFF_VERSION + ":" + oldHash + ":" + newHash + ":" + describe(options);
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + EXTENSION;
+    }
+
+    private static String describe(OpenApiDiffOptions options) {
+        Map<String, String> config = new TreeMap<>();
+        for (Iterator<String> keys = options.getConfig().getKeys(); keys.hasNext(); ) {
+            String key = keys.next();
+            config.put(key, String.valueOf(options.getConfig().getProperty(key)));
+        }
+        return config.toString();
+    }
+}
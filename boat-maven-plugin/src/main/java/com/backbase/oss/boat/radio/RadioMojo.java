@@ -1,10 +1,10 @@
 package com.backbase.oss.boat.radio;
 
+import com.backbase.oss.boat.OpenAPISessionCache;
 import com.backbase.oss.boat.Utils;
 import com.backbase.oss.boat.bay.client.ApiClient;
 import com.backbase.oss.boat.bay.client.api.BoatMavenPluginApi;
 import com.backbase.oss.boat.bay.client.model.*;
-import com.backbase.oss.boat.loader.OpenAPILoader;
 import com.backbase.oss.boat.loader.OpenAPILoaderException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +16,7 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -139,6 +140,9 @@ public class RadioMojo extends AbstractMojo {
     @Parameter(name = "radioOutput", defaultValue = "${project.build.directory}/target/boat-radio-report")
     private File radioOutput;
 
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
 
@@ -248,7 +252,7 @@ public class RadioMojo extends AbstractMojo {
         String contents;
         try {
             contents = IOUtils.toString(inputSpecFile.toURI(), Charset.defaultCharset());
-            OpenAPILoader.parse(contents);
+            OpenAPISessionCache.get(session).parse(contents);
         } catch (IOException e) {
             String msg = "Invalid File Path: " + inputSpecFile.getName();
             getLog().error(msg);
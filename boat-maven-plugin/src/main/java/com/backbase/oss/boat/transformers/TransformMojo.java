@@ -1,13 +1,13 @@
 package com.backbase.oss.boat.transformers;
 
+import com.backbase.oss.boat.OpenAPISessionCache;
+import com.backbase.oss.boat.ParallelRunner;
 import com.backbase.oss.boat.loader.OpenAPILoader;
 import com.backbase.oss.boat.serializer.SerializerUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -103,6 +103,12 @@ public class TransformMojo extends AbstractMojo {
     @Parameter
     final Map<String, Object> options = new HashMap<>();
 
+    /**
+     * Number of threads used to transform the input specifications.
+     */
+    @Parameter(name = "threads", property = "boat.transform.threads", defaultValue = "1")
+    int threads = 1;
+
     /**
      * Retrieves authorization from Maven's {@code settings.xml}.
      */
@@ -128,6 +134,12 @@ public class TransformMojo extends AbstractMojo {
 
         final List<AuthorizationValue> authz = buildAuthorization();
 
+        if (this.inputs.size() > 1) {
+            transformAll(authz);
+
+            return;
+        }
+
         try {
             this.inputs.forEach(input -> transform(input, authz));
         } catch (final RuntimeException e) {
@@ -144,14 +156,39 @@ public class TransformMojo extends AbstractMojo {
         }
     }
 
+    private void transformAll(List<AuthorizationValue> authz) throws MojoExecutionException {
+        int threads = this.threads;
+
+        if (threads > 1 && this.inputs.stream().map(this::destination).distinct().count() < this.inputs.size()) {
+            getLog().warn("Several inputs are written to the same file, transforming them one at a time.");
+
+            threads = 1;
+        }
+
+        ParallelRunner.run(this.inputs, threads, "transform", "specs", input -> {
+            transform(input, authz);
+
+            return null;
+        });
+    }
+
     @SneakyThrows
     private void transform(String input, List<AuthorizationValue> authz) {
-        OpenAPI openAPI = OpenAPILoader.load(input, false, false, authz);
+        File inputFile = new File(input);
+        OpenAPI openAPI = authz == null && inputFile.isFile()
+            ? OpenAPISessionCache.get(this.session).load(inputFile, false, false)
+            : OpenAPILoader.load(input, false, false, authz);
 
-        for (final Transformer t : this.pipeline) {
-            openAPI = t.transform(openAPI, this.options);
-        }
+        openAPI = new TransformerPipeline(this.pipeline).transform(openAPI, this.options);
+
+        File destFile = destination(input);
 
+        destFile.getParentFile().mkdirs();
+
+        SerializerUtils.writeYaml(openAPI, destFile.toPath());
+    }
+
+    private File destination(String input) {
         String destName = FilenameUtils.getName(input);
 
         for (final FileMapper fm : this.mappers) {
@@ -166,13 +203,7 @@ public class TransformMojo extends AbstractMojo {
             destFile = new File(this.output, destName);
         }
 
-        destFile.getParentFile().mkdirs();
-
-        Files.write(destFile.toPath(),
-            SerializerUtils
-                .toYamlString(openAPI)
-                .getBytes(StandardCharsets.UTF_8),
-            StandardOpenOption.CREATE);
+        return destFile;
     }
 
     private List<AuthorizationValue> buildAuthorization() throws MojoExecutionException {
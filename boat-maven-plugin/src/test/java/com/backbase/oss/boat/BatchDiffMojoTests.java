@@ -1,16 +1,33 @@
 package com.backbase.oss.boat;
 
 import com.backbase.oss.boat.diff.BatchOpenApiDiff;
+import com.backbase.oss.boat.diff.DiffCache;
 import io.swagger.v3.oas.models.OpenAPI;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.openapidiff.core.compare.OpenApiDiffOptions;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.stringContainsInOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Slf4j
 @SuppressWarnings("java:S2699")
@@ -29,6 +46,109 @@ class BatchDiffMojoTests {
         assertFalse(success.isEmpty());
     }
 
+    @SneakyThrows
+    @Test
+    void testBatchDiffInVersionOrder(@TempDir Path tempSpecDirectory) {
+        copySpecs(tempSpecDirectory, "petstore-new-breaking.yaml", "petstore.yaml", "petstore-new-non-breaking.yaml");
+        HashMap<File, OpenAPI> success = new HashMap<>();
+        HashMap<String, String> failed = new HashMap<>();
+
+        BatchOpenApiDiff.diff(tempSpecDirectory, success, failed, true, true, 4, null);
+
+        assertTrue(failed.isEmpty());
+        assertEquals(2, success.size());
+        String changelog = new String(Files.readAllBytes(tempSpecDirectory.resolve("changelog.md")), StandardCharsets.UTF_8);
+        assertThat(changelog, stringContainsInOrder("## 1.0.0 - 1.1.0", "## 1.1.0 - 2.0.0"));
+        String latest = new String(Files.readAllBytes(tempSpecDirectory.resolve("petstore-new-breaking.yaml")), StandardCharsets.UTF_8);
+        assertThat(latest, containsString("x-compared: true"));
+        assertThat(latest, not(containsString("x-changelog")));
+    }
+
+
+    @SneakyThrows
+    @Test
+    void testBatchDiffReplacesLongerChangelog(@TempDir Path tempSpecDirectory) {
+        copySpecs(tempSpecDirectory, "petstore.yaml", "petstore-new-non-breaking.yaml");
+        Path changelogFile = tempSpecDirectory.resolve("changelog.md");
+        String stale = "# Stale changelog\n" + String.join("", Collections.nCopies(1000, "stale\n"));
+        Files.write(changelogFile, stale.getBytes(StandardCharsets.UTF_8));
+
+        BatchOpenApiDiff.diff(tempSpecDirectory, new HashMap<>(), new HashMap<>(), false, true, 2, null);
+
+        String changelog = new String(Files.readAllBytes(changelogFile), StandardCharsets.UTF_8);
+        assertThat(changelog, containsString("## 1.0.0 - 1.1.0"));
+        assertThat(changelog, not(containsString("stale")));
+    }
+
+    @SneakyThrows
+    @Test
+    void testBatchDiffReusesCachedChangelogs(@TempDir Path tempDir) {
+        Path cacheDirectory = tempDir.resolve("cache");
+        Path previousBuild = copySpecs(tempDir.resolve("previous"), "petstore.yaml", "petstore-new-non-breaking.yaml");
+        BatchOpenApiDiff.diff(previousBuild, new HashMap<>(), new HashMap<>(), false, true, 2,
+            new DiffCache(cacheDirectory));
+
+        Path cachedBuild = copySpecs(tempDir.resolve("cached"),
+            "petstore.yaml", "petstore-new-non-breaking.yaml", "petstore-new-breaking.yaml");
+        DiffCache cache = new DiffCache(cacheDirectory);
+        BatchOpenApiDiff.diff(cachedBuild, new HashMap<>(), new HashMap<>(), true, true, 2, cache);
+        Path build = copySpecs(tempDir.resolve("uncached"),
+            "petstore.yaml", "petstore-new-non-breaking.yaml", "petstore-new-breaking.yaml");
+        BatchOpenApiDiff.diff(build, new HashMap<>(), new HashMap<>(), true, true, 2, null);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        for (String file : new String[]{"changelog.md", "petstore-new-non-breaking.yaml", "petstore-new-breaking.yaml"}) {
+            assertEquals(FileUtils.readFileToString(build.resolve(file).toFile(), StandardCharsets.UTF_8),
+                FileUtils.readFileToString(cachedBuild.resolve(file).toFile(), StandardCharsets.UTF_8), file);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void testBatchDiffMojoUsesCacheDirectory(@TempDir Path tempDir) {
+        Path cacheDirectory = tempDir.resolve("cache");
+        for (String build : new String[]{"first", "second"}) {
+            BatchDiffMojo mojo = new BatchDiffMojo();
+            mojo.setInput(copySpecs(tempDir.resolve(build), "petstore.yaml", "petstore-new-non-breaking.yaml").toFile());
+            mojo.setThreads(2);
+            mojo.setCacheDirectory(cacheDirectory.toString());
+            mojo.execute();
+        }
+
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            assertEquals(1, entries.count());
+        }
+        assertEquals(FileUtils.readFileToString(tempDir.resolve("first/changelog.md").toFile(), StandardCharsets.UTF_8),
+            FileUtils.readFileToString(tempDir.resolve("second/changelog.md").toFile(), StandardCharsets.UTF_8));
+    }
+
+    @SneakyThrows
+    @Test
+    void testDiffCacheEvictsLeastRecentlyUsedChangelogs(@TempDir Path cacheDirectory) {
+        OpenApiDiffOptions options = OpenApiDiffOptions.builder().build();
+        DiffCache cache = new DiffCache(cacheDirectory, 25);
+        cache.put("a", "b", options, "0123456789");
+        cache.put("b", "c", options, "0123456789");
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(0));
+            }
+        }
+        assertEquals("0123456789", cache.get("a", "b", options));
+        cache.put("c", "d", options, "0123456789");
+
+        assertEquals("0123456789", cache.get("a", "b", options));
+        assertNull(cache.get("b", "c", options));
+        assertEquals("0123456789", cache.get("c", "d", options));
+    }
+
+    private Path copySpecs(Path directory, String... specs) throws IOException {
+        for (String spec : specs) {
+            FileUtils.copyFile(getFile("/oas-examples/" + spec), directory.resolve(spec).toFile());
+        }
+        return directory;
+    }
 
     private File getFile(String fileName) {
         return new File(getClass().getResource(fileName).getFile());
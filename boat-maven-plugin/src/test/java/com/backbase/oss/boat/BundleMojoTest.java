@@ -6,18 +6,26 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
+import com.backbase.oss.boat.loader.OpenAPICache;
 import lombok.SneakyThrows;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class BundleMojoTest {
 
@@ -63,6 +71,79 @@ class BundleMojoTest {
         assertTrue(new File("target/test-bundle-folder/another-client-api-v1.7.9.yaml").exists());
     }
 
+    @Test
+    @SneakyThrows
+    void testBundleFolderInParallel() {
+        File folder = new File(getClass().getResource("/bundler/folder/one-client-api-v1.yaml").getFile())
+            .getParentFile();
+        for (int threads : new int[]{1, 4}) {
+            BundleMojo mojo = new BundleMojo();
+            mojo.setInput(folder);
+            mojo.setOutput(new File("target/test-bundle-folder-threads-" + threads));
+            mojo.setIncludes(new String[]{"*-api-v*.yaml"});
+            mojo.setThreads(threads);
+            mojo.execute();
+        }
+
+        for (String file : folder.list()) {
+            assertEquals(
+                new String(Files.readAllBytes(Paths.get("target/test-bundle-folder-threads-1", file))),
+                new String(Files.readAllBytes(Paths.get("target/test-bundle-folder-threads-4", file))));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testBundleFolderReportsAllFailures(@TempDir Path tempDir) {
+        Path input = tempDir.resolve("input");
+        Files.createDirectories(input);
+        Files.copy(Paths.get(getClass().getResource("/bundler/folder/one-client-api-v1.yaml").toURI()),
+            input.resolve("a-api-v1.yaml"), StandardCopyOption.REPLACE_EXISTING);
+        Files.writeString(input.resolve("b-api-v1.yaml"), "not: an openapi\n");
+        Files.writeString(input.resolve("c-api-v1.yaml"), "not: an openapi\n");
+        Files.copy(Paths.get(getClass().getResource("/bundler/folder/another-client-api-v1.yaml").toURI()),
+            input.resolve("d-api-v1.yaml"), StandardCopyOption.REPLACE_EXISTING);
+
+        for (int threads : new int[]{1, 2}) {
+            Path output = tempDir.resolve("output-" + threads);
+            BundleMojo mojo = new BundleMojo();
+            mojo.setInput(input.toFile());
+            mojo.setOutput(output.toFile());
+            mojo.setIncludes(new String[]{"*-api-v*.yaml"});
+            mojo.setThreads(threads);
+
+            MojoExecutionException thrown = assertThrows(MojoExecutionException.class, mojo::execute);
+
+            assertTrue(thrown.getMessage().startsWith("Failed to bundle 2 of 4 specs"));
+            assertEquals(1, thrown.getSuppressed().length);
+            assertTrue(Files.exists(output.resolve("a-api-v1.yaml")));
+            assertTrue(Files.exists(output.resolve("d-api-v1.yaml")));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void testSessionSharesParsedSpecs() {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+        File input = new File(getClass().getResource("/bundler/folder/one-client-api-v1.yaml").getFile());
+
+        for (String output : new String[]{"first", "second"}) {
+            BundleMojo mojo = new BundleMojo();
+            mojo.setSession(session);
+            mojo.setInput(input);
+            mojo.setOutput(new File("target/test-bundle-session/" + output + ".yaml"));
+            mojo.execute();
+        }
+
+        OpenAPICache cache = OpenAPISessionCache.get(session);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(
+            new String(Files.readAllBytes(Paths.get("target/test-bundle-session/first.yaml"))),
+            new String(Files.readAllBytes(Paths.get("target/test-bundle-session/second.yaml"))));
+    }
+
     @Test
     @SneakyThrows
     void testVersionFileName() {
@@ -6,20 +6,30 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.backbase.oss.codegen.java.BoatJavaCodeGen;
 import com.backbase.oss.codegen.java.BoatSpringCodeGen;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.logging.console.ConsoleLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openapitools.codegen.DefaultCodegen;
 import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
@@ -179,6 +189,207 @@ class GenerateMojoTests {
         });
     }
 
+    @Test
+    void skipIfSpecIsUnchangedTracksReferencesAndConfiguration(@TempDir Path tempDir)
+        throws MojoExecutionException, MojoFailureException, IOException {
+        Path spec = tempDir.resolve("api.yaml");
+        Path schemas = tempDir.resolve("schemas/pet.yaml");
+        Files.createDirectories(schemas.getParent());
+        Files.writeString(spec, "openapi: 3.0.3\n"
+            + "info:\n  title: Pets\n  version: 1.0.0\n"
+            + "paths:\n  /pets:\n    get:\n      responses:\n        '200':\n          description: Pets\n"
+            + "          content:\n            application/json:\n              schema:\n"
+            + "                $ref: schemas/pet.yaml\n");
+        Files.writeString(schemas, "type: object\nproperties:\n  name:\n    type: string\n");
+
+        GenerateMojo mojo = configure(new GenerateMojo(), DefaultCodegen.class.getName());
+        mojo.inputSpec = spec.toString();
+        mojo.output = tempDir.resolve("output").toFile();
+        mojo.skipIfSpecIsUnchanged = true;
+        mojo.configOptions = singletonMap("sourceFolder", "src");
+        Path hashFile = tempDir.resolve("output/.openapi-generator/api.yaml.sha256");
+
+        mojo.execute();
+        String initialHash = Files.readString(hashFile);
+
+        mojo.execute();
+        assertThat(Files.readString(hashFile), equalTo(initialHash));
+
+        Files.writeString(schemas, "type: object\nproperties:\n  name:\n    type: integer\n");
+        mojo.execute();
+        String referenceHash = Files.readString(hashFile);
+        assertThat(referenceHash, not(equalTo(initialHash)));
+
+        mojo.configOptions = singletonMap("sourceFolder", "other");
+        mojo.execute();
+        assertThat(Files.readString(hashFile), not(equalTo(referenceHash)));
+    }
+
+    @Test
+    void minimalUpdateKeepsUnchangedFilesAndRemovesStaleOnes(@TempDir Path tempDir)
+        throws MojoExecutionException, MojoFailureException, IOException {
+        Path spec = tempDir.resolve("api.yaml");
+        String paths = "openapi: 3.0.3\n"
+            + "info:\n  title: Pets\n  version: 1.0.0\n"
+            + "paths:\n  /pets:\n    get:\n      operationId: getPets\n      responses:\n"
+            + "        '200':\n          description: Pets\n"
+            + "          content:\n            application/json:\n              schema:\n"
+            + "                $ref: '#/components/schemas/Pet'\n"
+            + "components:\n  schemas:\n"
+            + "    Pet:\n      type: object\n      properties:\n        name:\n          type: string\n";
+        Files.writeString(spec, paths
+            + "    Owner:\n      type: object\n      properties:\n        name:\n          type: string\n");
+
+        GenerateMojo mojo = configure(new GenerateMojo(), "spring");
+        mojo.inputSpec = spec.toString();
+        mojo.output = tempDir.resolve("output").toFile();
+        mojo.minimalUpdate = true;
+        mojo.modelPackage = "pets.model";
+        mojo.configOptions = singletonMap("hideGenerationTimestamp", "true");
+        Path pet = tempDir.resolve("output/src/main/java/pets/model/Pet.java");
+        Path owner = tempDir.resolve("output/src/main/java/pets/model/Owner.java");
+
+        mojo.execute();
+        assertThat(Files.exists(owner), equalTo(true));
+        FileTime generated = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(pet, generated);
+
+        mojo.execute();
+        assertThat(Files.getLastModifiedTime(pet), equalTo(generated));
+
+        Files.writeString(spec, paths);
+        mojo.execute();
+        assertThat(Files.getLastModifiedTime(pet), equalTo(generated));
+        assertThat(Files.exists(owner), equalTo(false));
+        assertThat(Files.exists(tempDir.resolve("output/.openapi-generator-ignore")), equalTo(true));
+    }
+
+    @Test
+    void minimalUpdateKeepsFilesOfOtherExecutionsInTheSameOutput(@TempDir Path tempDir)
+        throws MojoExecutionException, MojoFailureException, IOException {
+        Path pets = tempDir.resolve("pets.yaml");
+        Path owners = tempDir.resolve("owners.yaml");
+        Files.writeString(pets, spec("pets", "Pet"));
+        Files.writeString(owners, spec("owners", "Owner"));
+
+        GenerateMojo petsMojo = sharedOutputMojo(tempDir, pets, "pets");
+        GenerateMojo ownersMojo = sharedOutputMojo(tempDir, owners, "owners");
+        Path pet = tempDir.resolve("output/src/main/java/shared/model/Pet.java");
+        Path owner = tempDir.resolve("output/src/main/java/shared/model/Owner.java");
+
+        petsMojo.execute();
+        ownersMojo.execute();
+        petsMojo.execute();
+        ownersMojo.execute();
+        assertThat(Files.exists(pet), equalTo(true));
+        assertThat(Files.exists(owner), equalTo(true));
+
+        Files.writeString(owners, spec("owners", "Person"));
+        ownersMojo.execute();
+        assertThat(Files.exists(pet), equalTo(true));
+        assertThat(Files.exists(owner), equalTo(false));
+        assertThat(Files.exists(tempDir.resolve("output/src/main/java/shared/model/Person.java")), equalTo(true));
+    }
+
+    private GenerateMojo sharedOutputMojo(Path tempDir, Path spec, String executionId) {
+        GenerateMojo mojo = configure(new GenerateMojo(), "spring");
+        mojo.inputSpec = spec.toString();
+        mojo.output = tempDir.resolve("output").toFile();
+        mojo.minimalUpdate = true;
+        mojo.apiPackage = "shared.api";
+        mojo.modelPackage = "shared.model";
+        mojo.configOptions = singletonMap("hideGenerationTimestamp", "true");
+        mojo.executionId = executionId;
+        return mojo;
+    }
+
+    private static String spec(String path, String schema) {
+        return "openapi: 3.0.3\n"
+            + "info:\n  title: " + schema + "\n  version: 1.0.0\n"
+            + "paths:\n  /" + path + ":\n    get:\n      operationId: get" + schema + "\n      responses:\n"
+            + "        '200':\n          description: " + schema + "\n"
+            + "          content:\n            application/json:\n              schema:\n"
+            + "                $ref: '#/components/schemas/" + schema + "'\n"
+            + "components:\n  schemas:\n"
+            + "    " + schema + ":\n      type: object\n      properties:\n        name:\n          type: string\n";
+    }
+
+    @Test
+    void targetsGenerateLikeSeparateExecutions(@TempDir Path tempDir)
+        throws MojoExecutionException, MojoFailureException, IOException {
+        Map<String, String> options = singletonMap("hideGenerationTimestamp", "true");
+
+        GenerateMojo separate = configure(new GenerateMojo(), "java");
+        separate.output = tempDir.resolve("separate").toFile();
+        separate.configOptions = options;
+        separate.execute();
+
+        GenerateTarget target = new GenerateTarget();
+        target.setGeneratorName("java");
+        target.setOutput(tempDir.resolve("java").toFile());
+
+        GenerateMojo mojo = configure(new GenerateMojo(), "spring");
+        mojo.output = tempDir.resolve("spring").toFile();
+        mojo.configOptions = options;
+        mojo.targets = new GenerateTarget[]{target};
+        mojo.targetThreads = 2;
+        mojo.execute();
+
+        assertThat(Files.exists(tempDir.resolve("spring/src/main/java/org/openapitools/api/PetsApi.java")),
+            equalTo(true));
+        // Only the execution itself stores the hash of its input
+        Files.delete(tempDir.resolve("separate/.openapi-generator/petstore.yaml.sha256"));
+        assertThat(contents(tempDir.resolve("java")), equalTo(contents(tempDir.resolve("separate"))));
+    }
+
+    @Test
+    void targetsKeepUserDefinedTemplatesOfConfigurationFile(@TempDir Path tempDir)
+        throws MojoExecutionException, MojoFailureException, IOException {
+        Path templates = tempDir.resolve("templates");
+        Files.createDirectories(templates);
+        Files.writeString(templates.resolve("custom.mustache"), "custom");
+        Path configurationFile = tempDir.resolve("config.yaml");
+        Files.writeString(configurationFile, "files:\n"
+            + "  custom.mustache:\n    destinationFilename: CUSTOM.md\n    templateType: SupportingFiles\n");
+
+        GenerateTarget target = new GenerateTarget();
+        target.setGeneratorName("java");
+        target.setOutput(tempDir.resolve("java").toFile());
+        target.setTemplateDirectory(templates.toFile());
+
+        GenerateMojo mojo = configure(new GenerateMojo(), "spring");
+        mojo.output = tempDir.resolve("spring").toFile();
+        mojo.configurationFile = configurationFile.toString();
+        mojo.templateDirectory = templates.toFile();
+        mojo.targets = new GenerateTarget[]{target};
+        mojo.execute();
+
+        assertThat(Files.readString(tempDir.resolve("spring/CUSTOM.md")), equalTo("custom"));
+        assertThat(Files.readString(tempDir.resolve("java/CUSTOM.md")), equalTo("custom"));
+    }
+
+    @Test
+    void targetsRequireSeparateOutputs(@TempDir Path tempDir) {
+        GenerateTarget nested = new GenerateTarget();
+        nested.setGeneratorName("java");
+        nested.setOutput(tempDir.resolve("spring/java").toFile());
+
+        GenerateMojo mojo = configure(new GenerateMojo(), "spring");
+        mojo.output = tempDir.resolve("spring").toFile();
+        mojo.targets = new GenerateTarget[]{nested};
+        assertThrows(MojoExecutionException.class, mojo::execute);
+
+        GenerateTarget first = new GenerateTarget();
+        first.setGeneratorName("java");
+        first.setOutput(tempDir.resolve("java").toFile());
+        GenerateTarget second = new GenerateTarget();
+        second.setGeneratorName("boat-angular");
+        second.setOutput(tempDir.resolve("java/../java").toFile());
+        mojo.targets = new GenerateTarget[]{first, second};
+        assertThrows(MojoExecutionException.class, mojo::execute);
+        assertThat(Files.exists(tempDir.resolve("java")), equalTo(false));
+    }
+
     private <T extends GenerateMojo> T configure(T mojo, String generatorName) {
         mojo.buildContext = buildContext;
         mojo.project = project;
@@ -187,4 +398,14 @@ class GenerateMojoTests {
         mojo.generatorName = generatorName;
         return mojo;
     }
+
+    private static Map<Path, String> contents(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            Map<Path, String> contents = new TreeMap<>();
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                contents.put(directory.relativize(file), Files.readString(file, StandardCharsets.ISO_8859_1));
+            }
+            return contents;
+        }
+    }
 }
@@ -1,17 +1,25 @@
 package com.backbase.oss.boat;
 
+import com.backbase.oss.boat.quay.model.BoatLintReport;
 import com.google.common.io.Files;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.assertj.core.util.Arrays;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Slf4j
@@ -60,6 +68,28 @@ class LintMojoTests {
         }
     }
 
+    @Test
+    void testParallelLintKeepsReportOrder(@TempDir Path tempDir)
+        throws MojoFailureException, MojoExecutionException, IOException {
+        File specs = tempDir.toFile();
+        for (String spec : new String[]{"petstore.yaml", "petstore-composed.yaml", "no-lint-warnings.yaml",
+            "petstore-new-breaking.yaml"}) {
+            FileUtils.copyFile(getFile("/oas-examples/" + spec), new File(specs, spec));
+        }
+
+        LintMojo sequential = new LintMojo();
+        sequential.setInput(specs);
+        List<BoatLintReport> expected = sequential.lint();
+
+        LintMojo parallel = new LintMojo();
+        parallel.setInput(specs);
+        parallel.setThreads(4);
+        List<BoatLintReport> actual = parallel.lint();
+
+        assertEquals(filePaths(expected), filePaths(actual));
+        assertEquals(violations(expected), violations(actual));
+    }
+
     @Test
     void testExceptionsNotExistingFile() {
         LintMojo lintMojo = new LintMojo();
@@ -87,6 +117,20 @@ class LintMojoTests {
     }
 
 
+    private List<String> filePaths(List<BoatLintReport> reports) {
+        return reports.stream().map(BoatLintReport::getFilePath).collect(Collectors.toList());
+    }
+
+    private List<List<String>> violations(List<BoatLintReport> reports) {
+        return reports.stream()
+            .map(report -> report.getViolations().stream()
+                .map(violation -> String.join("|", violation.getRule().getId(), violation.getSeverity().name(),
+                    String.valueOf(violation.getPointer()), String.valueOf(violation.getLines()),
+                    violation.getDescription()))
+                .collect(Collectors.toList()))
+            .collect(Collectors.toList());
+    }
+
     private File getFile(String fileName) {
         return new File(getClass().getResource(fileName).getFile());
     }
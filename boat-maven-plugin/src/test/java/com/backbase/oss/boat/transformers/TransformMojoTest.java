@@ -22,6 +22,7 @@ import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -138,6 +139,33 @@ class TransformMojoTest {
         assertThat(output("pete-store").exists(), is(true));
     }
 
+    @Test
+    void parallel() throws MojoExecutionException, MojoFailureException {
+        this.mojo.inputs.add("src/test/resources/oas-examples/petstore-composed.yaml");
+        this.mojo.inputs.add("src/test/resources/oas-examples/pet-store-example-in-components.yaml");
+        this.mojo.pipeline.add(new DereferenceComponentsPropertiesTransformer());
+        this.mojo.pipeline.add(new SetVersion("2.0.0"));
+        this.mojo.threads = 3;
+        this.mojo.execute();
+
+        assertThat(output("petstore-transformed").exists(), is(true));
+        assertThat(output("petstore-composed-transformed").exists(), is(true));
+        assertThat(output("pet-store-example-in-components-transformed").exists(), is(true));
+    }
+
+    @Test
+    void reportsAllFailures() {
+        this.mojo.inputs.add("src/test/resources/oas-examples/unable-to-parse.yaml");
+        this.mojo.inputs.add("src/test/resources/oas-examples/missing.yaml");
+        this.mojo.threads = 2;
+
+        final MojoExecutionException thrown = assertThrows(MojoExecutionException.class, this.mojo::execute);
+
+        assertThat(thrown.getMessage(), is("Failed to transform 2 of 3 specs"));
+        assertThat(thrown.getSuppressed().length, is(1));
+        assertThat(output("petstore-transformed").exists(), is(true));
+    }
+
     private File output(String name) {
         return new File(this.mojo.output, name + ".yaml");
     }
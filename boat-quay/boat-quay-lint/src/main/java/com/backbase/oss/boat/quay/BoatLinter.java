@@ -15,25 +15,39 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
-import org.zalando.zally.core.ApiValidator;
+import org.zalando.zally.core.ContentParseResult;
 import org.zalando.zally.core.DefaultContextFactory;
+import org.zalando.zally.core.JsonRulesValidator;
 import org.zalando.zally.core.Result;
 import org.zalando.zally.core.RulesManager;
 import org.zalando.zally.core.RulesPolicy;
+import org.zalando.zally.rule.api.Context;
 import org.zalando.zally.rule.api.Rule;
 import org.zalando.zally.rule.api.RuleSet;
 
+/**
+ * Lints OpenAPI specs against the zally and boat rule sets.
+ *
+ * <p>Instances are immutable and safe to share between threads. Use {@link #forIgnoredRules(String...)} to obtain a
+ * linter that is built once per class loader for a given set of ignored rules.</p>
+ */
 @Slf4j
 public class BoatLinter {
 
-    private final ApiValidator validator;
+    private static final Map<Set<String>, BoatLinter> LINTERS = new ConcurrentHashMap<>();
+
+    private final DefaultContextFactory contextFactory;
 
     private final URI documentationBaseUrl = URI.create("https://backbase.github.io/backbase-openapi-tools/rules.md");
     private final RulesManager rulesManager;
@@ -42,12 +56,22 @@ public class BoatLinter {
     private final Config config;
 
     public BoatLinter(String... ignoreRules) {
-        RulesValidatorConfiguration rulesValidatorConfiguration = new RulesValidatorConfiguration();
-        this.config = rulesValidatorConfiguration.config("boat.conf");
-        this.rulesManager = rulesValidatorConfiguration.rulesManager(config);
+        this.config = RulesEngine.CONFIG;
+        this.rulesManager = RulesEngine.RULES_MANAGER;
+        this.contextFactory = RulesEngine.CONTEXT_FACTORY;
         this.rulesPolicy = new RulesPolicy(Arrays.asList(ignoreRules));
-        this.validator = rulesValidatorConfiguration.apiValidator(rulesManager, new DefaultContextFactory());
-        this.availableRules = mapAvailableRules();
+        this.availableRules = Collections.unmodifiableMap(mapAvailableRules());
+    }
+
+    /**
+     * Returns a shared linter for the given ignored rules, creating it on first use.
+     *
+     * @param ignoreRules ids of the rules to ignore; order and duplicates are irrelevant
+     * @return linter shared by all callers asking for the same set of ignored rules
+     */
+    public static BoatLinter forIgnoredRules(String... ignoreRules) {
+        Set<String> key = Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(ignoreRules)));
+        return LINTERS.computeIfAbsent(key, rules -> new BoatLinter(rules.toArray(new String[0])));
     }
 
     public BoatLintReport lint(File inputFile) throws IOException, OpenAPILoaderException {
@@ -78,12 +102,21 @@ public class BoatLinter {
     }
 
     public BoatLintReport lint(String openApiContent) throws OpenAPILoaderException {
-        List<Result> validate = validator.validate(openApiContent, rulesPolicy, null);
+        // Parse the OpenAPI context once and share it between the rules and the report
+        ContentParseResult<Context> parsedContext = contextFactory.parseOpenApiContext(openApiContent, null);
+
+        List<Result> validate = new ArrayList<>();
+        validate.addAll(new ParsedContextRulesValidator(rulesManager, contextFactory, parsedContext)
+            .validate(openApiContent, rulesPolicy, null));
+        validate.addAll(new JsonRulesValidator(rulesManager)
+            .validate(openApiContent, rulesPolicy, null));
         List<BoatViolation> violations = validate.stream()
             .map(this::transformResult)
             .collect(Collectors.toList());
 
-        OpenAPI openAPI = OpenAPILoader.parse(openApiContent);
+        OpenAPI openAPI = parsedContext instanceof ContentParseResult.ParsedSuccessfully
+            ? ((ContentParseResult.ParsedSuccessfully<Context>) parsedContext).getResult().getApi()
+            : OpenAPILoader.parse(openApiContent);
 
         BoatLintReport boatLintReport = new BoatLintReport();
         boatLintReport.setOpenApi(openApiContent);
@@ -159,5 +192,25 @@ public class BoatLinter {
         return new ArrayList<>(availableRules.values());
     }
 
+    /**
+     * Holds the rule configuration, the class path scanned rules and the context factory. None of these depend on the
+     * ignored rules, so they are created once and shared by every linter. The validators keep the parsed document
+     * while validating, so they are created for every lint instead.
+     */
+    private static final class RulesEngine {
+
+        private static final Config CONFIG;
+        private static final RulesManager RULES_MANAGER;
+        private static final DefaultContextFactory CONTEXT_FACTORY = new DefaultContextFactory();
+
+        static {
+            RulesValidatorConfiguration rulesValidatorConfiguration = new RulesValidatorConfiguration();
+            CONFIG = rulesValidatorConfiguration.config("boat.conf");
+            RULES_MANAGER = rulesValidatorConfiguration.rulesManager(CONFIG);
+        }
+
+        private RulesEngine() {
+        }
+    }
 
 }
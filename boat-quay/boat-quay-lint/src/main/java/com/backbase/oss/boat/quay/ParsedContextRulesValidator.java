@@ -0,0 +1,43 @@
+package com.backbase.oss.boat.quay;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.zalando.zally.core.ContentParseResult;
+import org.zalando.zally.core.ContextRulesValidator;
+import org.zalando.zally.core.DefaultContextFactory;
+import org.zalando.zally.core.RulesManager;
+import org.zalando.zally.core.RulesValidator;
+import org.zalando.zally.rule.api.Context;
+
+/**
+ * Runs the context rules against an OpenAPI context that has already been parsed, so the same model can be used for
+ * the lint report. Content that could not be parsed as OpenAPI 3 is handed to the default {@link ContextRulesValidator}
+ * which also handles Swagger 2 specs and reports the parse errors.
+ */
+class ParsedContextRulesValidator extends RulesValidator<Context> {
+
+    private final ContentParseResult<Context> parsedContext;
+    private final ContextRulesValidator fallback;
+
+    ParsedContextRulesValidator(RulesManager rulesManager, DefaultContextFactory contextFactory,
+        ContentParseResult<Context> parsedContext) {
+        super(rulesManager);
+        this.parsedContext = parsedContext;
+        this.fallback = new ContextRulesValidator(rulesManager, contextFactory);
+    }
+
+    @NotNull
+    @Override
+    public ContentParseResult<Context> parse(@NotNull String content, @Nullable String authorization) {
+        if (parsedContext instanceof ContentParseResult.ParsedSuccessfully) {
+            return parsedContext;
+        }
+        return fallback.parse(content, authorization);
+    }
+
+    @Override
+    public boolean ignore(@NotNull Context root, @NotNull JsonPointer pointer, @NotNull String ruleId) {
+        return root.isIgnored(pointer, ruleId);
+    }
+}
@@ -2,6 +2,9 @@ package com.backbase.oss.boat.quay;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.backbase.oss.boat.loader.OpenAPILoaderException;
@@ -35,6 +38,20 @@ class BoatLinterTests {
         assertTrue(boatLintReport.hasViolations());
     }
 
+    @Test
+    void testReportHeaderFromParsedSpec() throws IOException, OpenAPILoaderException {
+        String openApiContents = IOUtils.resourceToString("/openapi/presentation-client-api/openapi.yaml", Charset.defaultCharset());
+        BoatLintReport boatLintReport = boatLinter.lint(openApiContents);
+
+        assertEquals("Wallet Test Client API", boatLintReport.getTitle());
+        assertEquals("v1", boatLintReport.getVersion());
+    }
+
+    @Test
+    void testUnparsableSpec() {
+        assertThrows(OpenAPILoaderException.class, () -> boatLinter.lint("not: an openapi"));
+    }
+
     @Test
     void testBoatViolationDisplay() throws IOException, OpenAPILoaderException {
         String openApiContents = IOUtils.resourceToString("/openapi/presentation-client-api/openapi.yaml", Charset.defaultCharset());
@@ -79,4 +96,13 @@ class BoatLinterTests {
         assertFalse(availableRules.isEmpty());
 
     }
+
+    @Test
+    void sharedLinterPerIgnoredRules() {
+        BoatLinter linter = BoatLinter.forIgnoredRules("150", "219");
+
+        assertSame(linter, BoatLinter.forIgnoredRules("219", "150", "219"));
+        assertNotSame(linter, BoatLinter.forIgnoredRules("150"));
+        assertSame(BoatLinter.forIgnoredRules(), BoatLinter.forIgnoredRules());
+    }
 }
@@ -1,7 +1,7 @@
 package com.backbase.oss.codegen;
 
 import com.backbase.oss.codegen.marina.BoatHandlebarsEngineAdapter;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
@@ -30,6 +30,9 @@ public abstract class AbstractDocumentationGenerator implements Generator {
     protected String input;
     protected ClientOptInput opts;
     protected TemplateManager templateProcessor;
+    private static final TypeReference<Map<String, Object>> BUNDLE_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
     protected final ObjectMapper objectMapper = new ObjectMapper();
 
     @SuppressWarnings("deprecation")
@@ -42,7 +45,7 @@ public abstract class AbstractDocumentationGenerator implements Generator {
             this.config.isEnableMinimalUpdate(),
             this.config.isSkipOverwrite());
 
-        TemplatingEngineAdapter templatingEngine = new BoatHandlebarsEngineAdapter();
+        TemplatingEngineAdapter templatingEngine = BoatHandlebarsEngineAdapter.shared();
 
         TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
         TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
@@ -99,9 +102,11 @@ public abstract class AbstractDocumentationGenerator implements Generator {
         return this.templateProcessor.write(templateData, templateName, target);
     }
 
-    @SuppressWarnings("unchecked")
-    protected Map<String, Object> convertToBundle(Object object) throws JsonProcessingException {
-        String model = objectMapper.writeValueAsString(object);
-        return objectMapper.readValue(model, Map.class);
+    /**
+     * Converts the model into the maps and lists the templates are rendered with. The conversion goes through a token
+     * buffer, so large models are not written to an intermediate JSON string.
+     */
+    protected Map<String, Object> convertToBundle(Object object) {
+        return objectMapper.convertValue(object, BUNDLE_TYPE);
     }
 }
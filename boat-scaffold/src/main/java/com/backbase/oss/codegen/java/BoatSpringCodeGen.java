@@ -1,7 +1,6 @@
 package com.backbase.oss.codegen.java;
 
 import static com.backbase.oss.codegen.java.BoatCodeGenUtils.getCollectionCodegenValue;
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.StringUtils.contains;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -17,6 +16,7 @@ import io.swagger.v3.oas.models.servers.Server;
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -56,7 +56,6 @@ public class BoatSpringCodeGen extends SpringCodegen {
     static class NewLineIndent implements Mustache.Lambda {
 
         private final String prefix;
-        private static final String REGEX = "\\s+$";
 
         NewLineIndent(int level, String space) {
             this.prefix = IntStream.range(0, level).mapToObj(n -> space).collect(joining());
@@ -70,7 +69,7 @@ public class BoatSpringCodeGen extends SpringCodegen {
                 return;
             }
 
-            final String[] lines = splitLines(text);
+            final List<String> lines = splitLines(text);
             final int indent = minIndent(lines);
 
             for (final String line : lines) {
@@ -85,50 +84,90 @@ public class BoatSpringCodeGen extends SpringCodegen {
             return line;
         }
 
-        private String[] splitLines(final String text) {
-            return stream(text.split("\\r\\n|\\n"))
-                .map(s -> s.replaceFirst(REGEX, ""))
-                .toArray(String[]::new);
+        /**
+         * Splits like {@code text.split("\\r\\n|\\n")}, dropping trailing empty lines, and strips trailing
+         * whitespace from each line.
+         */
+        private static List<String> splitLines(final String text) {
+            final List<String> lines = new ArrayList<>();
+            int nonEmpty = 0;
+            int start = 0;
+            for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', start)) {
+                final int end = i > start && text.charAt(i - 1) == '\r' ? i - 1 : i;
+                lines.add(stripTrailing(text.substring(start, end)));
+                if (end > start) {
+                    nonEmpty = lines.size();
+                }
+                start = i + 1;
+            }
+            if (start < text.length()) {
+                lines.add(stripTrailing(text.substring(start)));
+                nonEmpty = lines.size();
+            }
+            return lines.subList(0, start == 0 ? lines.size() : nonEmpty);
         }
 
-        private int minIndent(String[] lines) {
-            return stream(lines)
-                .filter(StringUtils::isNotBlank)
-                .map(s -> s.replaceFirst(REGEX, ""))
-                .map(NewLineIndent::indentLevel)
-                .min(Integer::compareTo)
-                .orElse(0);
+        private static int minIndent(List<String> lines) {
+            int min = -1;
+            for (final String line : lines) {
+                if (StringUtils.isNotBlank(line)) {
+                    final int level = indentLevel(stripTrailing(line));
+                    min = min < 0 ? level : Math.min(min, level);
+                }
+            }
+            return Math.max(min, 0);
         }
 
         static int indentLevel(String text) {
-            return IntStream
-                .range(0, text.replaceFirst(REGEX, text).length())
-                .filter(n -> !Character.isWhitespace(text.charAt(n)))
-                .findFirst().orElse(0);
+            for (int n = 0; n < text.length(); n++) {
+                if (!Character.isWhitespace(text.charAt(n))) {
+                    return n;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Same as {@code line.replaceFirst("\\s+$", "")}, where {@code $} also matches before a final line terminator
+         * that is not whitespace itself.
+         */
+        static String stripTrailing(String line) {
+            final int length = line.length();
+            final int end = length > 0 && isLineTerminator(line.charAt(length - 1)) ? length - 1 : length;
+            int start = end;
+            while (start > 0 && isRegexWhitespace(line.charAt(start - 1))) {
+                start--;
+            }
+            if (start == end) {
+                return line;
+            }
+            return line.substring(0, start) + line.substring(end);
+        }
+
+        private static boolean isLineTerminator(char c) {
+            return c == '\u0085' || c == '\u2028' || c == '\u2029';
         }
     }
 
+    /**
+     * Matches the same characters as {@code \s} in a regular expression.
+     */
+    static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * This lambda reformats multiline generated code into single line.
      */
     static class FormatToOneLine implements Mustache.Lambda {
 
-        private static final String SINGLE_SPACE = " ";
-
-        private static final String WHITESPACE_REGEX = "\\s+";
-
         @Override
         public void execute(Fragment frag, Writer out) throws IOException {
             String text = frag.execute();
             if (text == null || text.isEmpty()) {
                 return;
             }
-            String formatted = text
-                .replace("\\n", SINGLE_SPACE)
-                .replaceAll(WHITESPACE_REGEX, SINGLE_SPACE)
-                .replaceAll("\\< ", "<")
-                .replaceAll(" >", ">")
-                .trim();
+            String formatted = format(text);
 
             if (log.isTraceEnabled()) {
                 log.trace("Fragment [{}] reformatted into [{}]", text, formatted);
@@ -136,6 +175,32 @@ public class BoatSpringCodeGen extends SpringCodegen {
 
             out.write(formatted);
         }
+
+        /**
+         * Replaces escaped new lines and runs of whitespace by a single space, drops the spaces after {@code <} and
+         * before {@code >} and trims the result, in one pass.
+         */
+        static String format(String text) {
+            final StringBuilder formatted = new StringBuilder(text.length());
+            boolean space = false;
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                if (c == '\\' && i + 1 < text.length() && text.charAt(i + 1) == 'n') {
+                    space = true;
+                    i++;
+                } else if (isRegexWhitespace(c)) {
+                    space = true;
+                } else {
+                    final int last = formatted.length() - 1;
+                    if (space && c != '>' && (last < 0 || formatted.charAt(last) != '<')) {
+                        formatted.append(' ');
+                    }
+                    space = false;
+                    formatted.append(c);
+                }
+            }
+            return formatted.toString().trim();
+        }
     }
 
     static class TrimAndIndent extends NewLineIndent {
@@ -8,6 +8,7 @@ import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Jackson2Helper;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.helper.ConditionalHelpers;
@@ -16,25 +17,40 @@ import com.github.jknack.handlebars.io.AbstractTemplateLoader;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.templating.HandlebarsEngineAdapter;
 
+/**
+ * Renders Handlebars templates with the BOAT helpers.
+ *
+ * <p>Templates and their partials are compiled once per template directory and reused for every render, so an
+ * adapter can render many specs with the same templates cheaply, also when each spec has its own generator and
+ * template executor. The adapter is safe to use from multiple threads.</p>
+ */
 @Slf4j
 public class BoatHandlebarsEngineAdapter extends HandlebarsEngineAdapter {
 
+    private static final Helper<Object> JSON_HELPER = new Jackson2Helper(new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL));
+
+    private static final BoatHandlebarsEngineAdapter SHARED = new BoatHandlebarsEngineAdapter();
+
+    private final Map<Path, CompiledTemplates> compiledTemplates = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile)
         throws IOException {
-        TemplateLoader loader = new AbstractTemplateLoader() {
-            @Override
-            public TemplateSource sourceAt(String location) {
-                return findTemplate(executor, location);
-            }
-        };
-
         Context context = Context
                 .newBuilder(bundle)
                 .resolver(
@@ -42,20 +58,85 @@ public class BoatHandlebarsEngineAdapter extends HandlebarsEngineAdapter {
                         JavaBeanValueResolver.INSTANCE)
                 .build();
 
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
-            log.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
-            return "";
-        });
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        Helper<Object> instance = new Jackson2Helper(objectMapper);
-        handlebars.registerHelper("json", instance);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        Template tmpl = handlebars.compile(templateFile);
+        Template tmpl = compiledTemplates.computeIfAbsent(templateDirectory(executor, templateFile),
+            directory -> new CompiledTemplates(executor)).get(templateFile);
         return tmpl.apply(context);
     }
+
+    /**
+     * The adapter shared by the BOAT generators, so the templates compiled for one spec are reused for the next.
+     */
+    public static BoatHandlebarsEngineAdapter shared() {
+        return SHARED;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // The directory the executor finds the template in: executors that find a template in the same directory find
+    // the same templates, so they share the compiled ones
+    private static Path templateDirectory(TemplatingExecutor executor, String templateFile) {
+        Path directory = executor.getFullTemplatePath(templateFile).toAbsolutePath();
+        for (int i = 0; i < Paths.get(templateFile).getNameCount() && directory.getParent() != null; i++) {
+            directory = directory.getParent();
+        }
+        return directory;
+    }
+
+    /**
+     * The templates of one directory, with a Handlebars instance that loads them with the first executor that used
+     * it.
+     */
+    private class CompiledTemplates {
+        private final Handlebars handlebars;
+        private final Map<String, TemplateSource> sources = new ConcurrentHashMap<>();
+        private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+        CompiledTemplates(TemplatingExecutor executor) {
+            TemplateLoader loader = new AbstractTemplateLoader() {
+                @Override
+                public TemplateSource sourceAt(String location) {
+                    return sources.computeIfAbsent(location, l -> findTemplate(executor, l));
+                }
+            };
+
+            handlebars = new Handlebars(loader).with(new ConcurrentMapTemplateCache());
+            handlebars.registerHelperMissing((obj, options) -> {
+                log.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
+                return "";
+            });
+            handlebars.registerHelper("json", JSON_HELPER);
+            StringHelpers.register(handlebars);
+            handlebars.registerHelpers(ConditionalHelpers.class);
+            handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+        }
+
+        Template get(String templateFile) throws IOException {
+            Template template = templates.get(templateFile);
+            if (template != null) {
+                hits.incrementAndGet();
+                return template;
+            }
+            try {
+                return templates.computeIfAbsent(templateFile, this::compile);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Template compile(String templateFile) {
+            misses.incrementAndGet();
+            log.debug("Compiling template: {}", templateFile);
+            try {
+                return handlebars.compile(templateFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
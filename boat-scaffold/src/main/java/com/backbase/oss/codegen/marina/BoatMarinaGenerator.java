@@ -29,7 +29,7 @@ public class BoatMarinaGenerator extends BoatStaticDocsGenerator {
         additionalProperties.put("licenseInfo", "All rights reserved");
         additionalProperties.put("licenseUrl", "http://apache.org/licenses/LICENSE-2.0.html");
         typeAliases = new HashMap<>();
-        HandlebarsEngineAdapter templatingEngine = new BoatHandlebarsEngineAdapter();
+        HandlebarsEngineAdapter templatingEngine = BoatHandlebarsEngineAdapter.shared();
         setTemplatingEngine(templatingEngine);
     }
 
@@ -12,7 +12,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.backbase.oss.codegen.java.BoatSpringCodeGen.FormatToOneLine;
 import com.backbase.oss.codegen.java.BoatSpringCodeGen.NewLineIndent;
+import com.backbase.oss.codegen.java.BoatSpringCodeGen.TrimAndIndent;
 import com.backbase.oss.codegen.java.VerificationRunner.Verification;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javaparser.StaticJavaParser;
@@ -112,6 +114,32 @@ class BoatSpringCodeGenTests {
         assertThat(output.toString(), equalTo(String.format("__%n__Good%n__  morning,%n__ Dave%n")));
     }
 
+    @Test
+    void trimAndIndent() throws IOException {
+        final TrimAndIndent indent = new BoatSpringCodeGen.TrimAndIndent(2, "_");
+        final StringWriter output = new StringWriter();
+        final Fragment frag = mock(Fragment.class);
+
+        when(frag.execute()).thenReturn("    @NotNull \n      @Valid\t\r\n\n\n");
+
+        indent.execute(frag, output);
+
+        assertThat(output.toString(), equalTo(String.format("__@NotNull%n__@Valid%n")));
+    }
+
+    @Test
+    void formatToOneLine() throws IOException {
+        final FormatToOneLine formatToOneLine = new BoatSpringCodeGen.FormatToOneLine();
+        final StringWriter output = new StringWriter();
+        final Fragment frag = mock(Fragment.class);
+
+        when(frag.execute()).thenReturn("\n  ResponseEntity< List<\\n Pet >  >\r\n\tlistPets( ) ");
+
+        formatToOneLine.execute(frag, output);
+
+        assertThat(output.toString(), equalTo("ResponseEntity<List<Pet>> listPets( )"));
+    }
+
     @Test
     void addServletRequestTestFromOperation(){
         final BoatSpringCodeGen gen = new BoatSpringCodeGen();
@@ -1,9 +1,11 @@
 package com.backbase.oss.codegen.lint;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.backbase.oss.codegen.marina.BoatHandlebarsEngineAdapter;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -31,6 +33,20 @@ class BoatLintTests {
         assertTrue(generated.contains("<title>BOAT Lint Report - Swagger Petstore</title>"));
     }
 
+    @Test
+    void testGeneratorsShareCompiledTemplates() {
+        File input = getFile("/oas-examples/petstore.yaml");
+        BoatHandlebarsEngineAdapter adapter = BoatHandlebarsEngineAdapter.shared();
+
+        generate(input, new File("target/boat-lint-first"));
+        long misses = adapter.getMisses();
+        long hits = adapter.getHits();
+        generate(input, new File("target/boat-lint-second"));
+
+        assertEquals(misses, adapter.getMisses());
+        assertTrue(adapter.getHits() > hits);
+    }
+
     @Test
     void testUnreadable() {
         File input = getFile("/oas-examples/unable-to-parse.yaml");
@@ -39,8 +55,10 @@ class BoatLintTests {
 
     @NotNull
     private File generate(File input) {
-        File output = new File("target/boat-lint");
+        return generate(input, new File("target/boat-lint"));
+    }
 
+    private File generate(File input, File output) {
         BoatLintConfig config = new BoatLintConfig();
         config.setInputSpec(input.getAbsolutePath());
         config.setOutputDir(output.getAbsolutePath());
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.api.TemplatingExecutor;
 
 import java.io.File;
 import java.io.IOException;
@@ -14,8 +15,13 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @Slf4j
 class BoatMarinaTest {
@@ -46,6 +52,24 @@ class BoatMarinaTest {
         assertTrue(generated.contains("data.examples[\"BadRequestError\"]"));
     }
 
+    @Test
+    void testTemplatesAreCompiledOnce() throws IOException {
+        TemplatingExecutor executor = mock(TemplatingExecutor.class);
+        when(executor.getFullTemplateContents("page.handlebars")).thenReturn("<h1>{{title}}</h1>{{> footer}}");
+        when(executor.getFullTemplateContents("footer.handlebars")).thenReturn("<p>{{upper title}}</p>");
+        when(executor.getFullTemplatePath("page.handlebars")).thenReturn(Paths.get("templates", "page.handlebars"));
+        BoatHandlebarsEngineAdapter adapter = new BoatHandlebarsEngineAdapter();
+
+        String first = adapter.compileTemplate(executor, Collections.singletonMap("title", "one"), "page.handlebars");
+        String second = adapter.compileTemplate(executor, Collections.singletonMap("title", "two"), "page.handlebars");
+
+        assertEquals("<h1>one</h1><p>ONE</p>", first);
+        assertEquals("<h1>two</h1><p>TWO</p>", second);
+        assertEquals(1, adapter.getMisses());
+        assertEquals(1, adapter.getHits());
+        verify(executor, times(1)).getFullTemplateContents("footer.handlebars");
+    }
+
     protected File getFile(String name) {
         URL resource = getClass().getResource(name);
         assert resource != null;